@@ -1,24 +1,21 @@
 package com.vorofpie.timetracker.aspect;
 
-import com.vorofpie.timetracker.domain.Project;
-import com.vorofpie.timetracker.domain.RecordDetail;
-import com.vorofpie.timetracker.domain.TaskDetail;
-import com.vorofpie.timetracker.domain.User;
+import com.vorofpie.timetracker.cache.ProjectMembershipCache;
+import com.vorofpie.timetracker.cache.ProjectMembershipIndex;
+import com.vorofpie.timetracker.config.CurrentUser;
+import com.vorofpie.timetracker.config.CurrentUserProvider;
 import com.vorofpie.timetracker.dto.request.RecordDetailRequest;
 import com.vorofpie.timetracker.dto.request.TaskDetailRequest;
 import com.vorofpie.timetracker.error.exception.AccessDeniedException;
 import com.vorofpie.timetracker.error.exception.ResourceNotFoundException;
-import com.vorofpie.timetracker.repository.ProjectRepository;
+import com.vorofpie.timetracker.mapper.FieldSelection;
 import com.vorofpie.timetracker.repository.RecordDetailRepository;
 import com.vorofpie.timetracker.repository.TaskDetailRepository;
-import com.vorofpie.timetracker.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import static com.vorofpie.timetracker.error.ErrorMessages.*;
@@ -32,10 +29,11 @@ import static com.vorofpie.timetracker.error.ErrorMessages.*;
 @RequiredArgsConstructor
 public class ProjectMemberAspect {
 
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
     private final TaskDetailRepository taskDetailRepository;
-    private final ProjectRepository projectRepository;
     private final RecordDetailRepository recordDetailRepository;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final ProjectMembershipIndex projectMembershipIndex;
 
     /**
      * Pointcut for methods annotated with @ProjectMemberAccess.
@@ -64,9 +62,9 @@ public class ProjectMemberAspect {
      */
     @Before("projectMemberAccess() && args(recordDetailRequest,..)")
     public void beforeCreateOrUpdateRecordDetail(RecordDetailRequest recordDetailRequest) {
-        TaskDetail taskDetail = taskDetailRepository.findById(recordDetailRequest.taskId())
+        Long projectId = taskDetailRepository.findProjectIdById(recordDetailRequest.taskId())
                 .orElseThrow(() -> new ResourceNotFoundException(String.format(TASK_DETAIL_NOT_FOUND_MESSAGE, recordDetailRequest.taskId())));
-        checkProjectMembership(taskDetail.getProject().getId());
+        checkProjectMembership(projectId);
     }
 
     /**
@@ -81,34 +79,47 @@ public class ProjectMemberAspect {
         String className = joinPoint.getSignature().getDeclaringTypeName();
 
         if (className.contains("TaskDetail")) {
-            TaskDetail taskDetail = taskDetailRepository.findById(id)
+            Long projectId = taskDetailRepository.findProjectIdById(id)
                     .orElseThrow(() -> new ResourceNotFoundException(String.format(TASK_DETAIL_NOT_FOUND_MESSAGE, id)));
-            checkProjectMembership(taskDetail.getProject().getId());
+            checkProjectMembership(projectId);
         } else if (className.contains("RecordDetail")) {
-            RecordDetail recordDetail = recordDetailRepository.findById(id)
+            Long projectId = recordDetailRepository.findProjectIdById(id)
                     .orElseThrow(() -> new ResourceNotFoundException(String.format(RECORD_DETAIL_NOT_FOUND_MESSAGE, id)));
-            checkProjectMembership(recordDetail.getTask().getProject().getId());
+            checkProjectMembership(projectId);
         } else if (className.contains("Project")) {
             checkProjectMembership(id);
         }
     }
 
+    /**
+     * Validates project membership before reading an entity by its ID with a subset of its properties.
+     *
+     * @param joinPoint the join point providing context about the method being intercepted
+     * @param id the ID of the entity being accessed
+     * @param selection the requested properties of the entity
+     */
+    @Before("projectMemberAccess() && args(id, selection)")
+    public void beforeAccessEntityByIdWithSelection(JoinPoint joinPoint, Long id, FieldSelection selection) {
+        beforeAccessEntityById(joinPoint, id);
+    }
+
     /**
      * Checks if the current authenticated user is a member of the specified project or an admin.
+     * Admins skip the check. Memberships known to the in-memory index are allowed without queries, everything else
+     * is decided by the membership cache, which also reports missing projects.
      * Throws AccessDeniedException if the user is neither a member of the project nor an admin.
      *
      * @param projectId the ID of the project to check membership for
      */
     private void checkProjectMembership(Long projectId) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String currentUserEmail = authentication.getName();
-        User currentUser = userRepository.findByEmail(currentUserEmail)
-                .orElseThrow(() -> new ResourceNotFoundException(String.format(USER_NOT_FOUND_MESSAGE, currentUserEmail)));
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new ResourceNotFoundException(String.format(PROJECT_NOT_FOUND_MESSAGE, projectId)));
-        boolean isAdmin = authentication.getAuthorities().stream()
-                .anyMatch(auth -> auth.getAuthority().equals("ROLE_ADMIN"));
-        if (!project.getUsers().contains(currentUser) && !isAdmin) {
+        CurrentUser currentUser = currentUserProvider.get();
+        if (currentUser.isAdmin()) {
+            return;
+        }
+        if (projectMembershipIndex.isReady() && projectMembershipIndex.isMember(currentUser.id(), projectId)) {
+            return;
+        }
+        if (!projectMembershipCache.isMember(currentUser.id(), projectId)) {
             throw new AccessDeniedException(ACCESS_DENIED_ERROR_MESSAGE);
         }
     }
@@ -34,9 +34,10 @@ public class AuthenticationController implements AuthenticationApi{
     @ResponseStatus(HttpStatus.OK)
     @Override
     public AuthenticationResponse authenticate(
-            @RequestBody @Valid AuthenticationRequest request
+            @RequestBody @Valid AuthenticationRequest request,
+            HttpServletRequest httpRequest
     ) {
-        return service.authenticate(request);
+        return service.authenticate(request, httpRequest.getRemoteAddr());
     }
 
     @PostMapping("/refresh-token")
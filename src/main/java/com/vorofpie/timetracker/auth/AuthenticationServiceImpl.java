@@ -1,6 +1,7 @@
 package com.vorofpie.timetracker.auth;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vorofpie.timetracker.cache.RoleCache;
 import com.vorofpie.timetracker.config.SecurityUser;
 import com.vorofpie.timetracker.domain.Role;
 import com.vorofpie.timetracker.domain.RoleName;
@@ -9,12 +10,13 @@ import com.vorofpie.timetracker.dto.request.UserRequest;
 import com.vorofpie.timetracker.error.ErrorMessages;
 import com.vorofpie.timetracker.error.exception.DuplicateResourceException;
 import com.vorofpie.timetracker.error.exception.ResourceNotFoundException;
-import com.vorofpie.timetracker.repository.RoleRepository;
 import com.vorofpie.timetracker.repository.UserRepository;
 import com.vorofpie.timetracker.service.AuthenticationService;
 import com.vorofpie.timetracker.service.JwtService;
-import com.vorofpie.timetracker.token.Token;
-import com.vorofpie.timetracker.token.TokenRepository;
+import com.vorofpie.timetracker.service.TokenRevocationService;
+import com.vorofpie.timetracker.token.ParsedToken;
+import com.vorofpie.timetracker.token.VerifiedTokenCache;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -26,7 +28,6 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.util.List;
 
 /**
  * Service implementation for handling user authentication and registration processes.
@@ -37,12 +38,14 @@ import java.util.List;
 public class AuthenticationServiceImpl implements AuthenticationService {
 
     // Dependencies required for various authentication and authorization operations
-    private final RoleRepository roleRepository;
+    private final RoleCache roleCache;
     private final UserRepository userRepository;
-    private final TokenRepository tokenRepository;
+    private final TokenRevocationService tokenRevocationService;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final LoginRateLimiter loginRateLimiter;
 
     /**
      * Registers a new user.
@@ -81,13 +84,18 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     /**
      * Authenticates an existing user.
-     * Validates the user's credentials and generates new JWT tokens.
+     * Applies the login rate limits, validates the user's credentials and generates new JWT tokens.
      *
-     * @param request the authentication request containing user credentials
+     * @param request       the authentication request containing user credentials
+     * @param clientAddress the IP address of the client attempting to log in
      * @return the authentication response with access and refresh tokens
      */
     @Override
-    public AuthenticationResponse authenticate(AuthenticationRequest request) {
+    @Timed(value = "auth.login", description = "Login latency", percentiles = {0.5, 0.99})
+    public AuthenticationResponse authenticate(AuthenticationRequest request, String clientAddress) {
+        // Reject throttled attempts before any password hashing or database access
+        loginRateLimiter.acquire(request.email(), clientAddress);
+
         // Authenticate the user using the provided credentials
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.email(), request.password())
@@ -97,15 +105,15 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         User user = findUserByEmail(request.email());
 
         // Wrap the user entity in a UserDetails implementation
-        UserDetails userDetails = new SecurityUser(user);
+        UserDetails userDetails = new SecurityUser(user, roleCache.roleOf(user));
+
+        // Revoke all existing tokens for the user
+        revokeAllUserTokens(user);
 
         // Generate new JWT tokens for the authenticated user
         String accessToken = jwtService.generateToken(userDetails);
         String refreshToken = jwtService.generateRefreshToken(userDetails);
 
-        // Revoke all existing tokens for the user
-        revokeAllUserTokens(user);
-
         // Save the new access token in the repository
         saveUserToken(user, accessToken);
 
@@ -128,6 +136,7 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     public void refreshToken(HttpServletRequest request, HttpServletResponse response) throws IOException {
         final String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
         final String refreshToken;
+        final ParsedToken parsedToken;
         final String userEmail;
         final AuthenticationResponse authResponse;
 
@@ -138,22 +147,24 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
         // Extract the refresh token from the authorization header
         refreshToken = authHeader.substring(7);
-        userEmail = jwtService.extractUserEmail(refreshToken);
+        parsedToken = jwtService.parseToken(refreshToken);
+        userEmail = parsedToken.subject();
 
-        // Validate the extracted user email and refresh token
-        if (userEmail != null) {
+        // Validate the extracted user email and refresh token, access tokens cannot be used to refresh
+        if (userEmail != null && parsedToken.hasType(JwtService.REFRESH_TOKEN_TYPE)) {
             User user = findUserByEmail(userEmail);
-            UserDetails userDetails = new SecurityUser(user);
+            UserDetails userDetails = new SecurityUser(user, roleCache.roleOf(user));
+
+            // Check if the refresh token is valid and was not revoked by a logout or a later login
+            if (jwtService.isTokenValid(parsedToken, userDetails)
+                    && tokenRevocationService.isRefreshTokenActive(parsedToken, user)) {
+                // Revoke all existing tokens for the user
+                revokeAllUserTokens(user);
 
-            // Check if the refresh token is valid
-            if (jwtService.isTokenValid(refreshToken, userDetails)) {
                 // Generate new access and refresh tokens
                 String newAccessToken = jwtService.generateToken(userDetails);
                 String newRefreshToken = jwtService.generateRefreshToken(userDetails);
 
-                // Revoke all existing tokens for the user
-                revokeAllUserTokens(user);
-
                 // Save the new access token in the repository
                 saveUserToken(user, newAccessToken);
 
@@ -170,50 +181,35 @@ public class AuthenticationServiceImpl implements AuthenticationService {
     }
 
     /**
-     * Saves a user's token to the repository.
-     * Marks the token as not expired and not revoked.
+     * Saves a user's token using the configured revocation mode.
      *
      * @param user the user entity to associate the token with
      * @param accessToken the access token to save
      */
     private void saveUserToken(User user, String accessToken) {
-        Token token = Token.builder()
-                .user(user)
-                .token(accessToken)
-                .expired(false)
-                .revoked(false)
-                .build();
-        tokenRepository.save(token);
+        tokenRevocationService.saveUserToken(user, accessToken);
     }
 
     /**
-     * Revokes all valid tokens for a user.
-     * Marks the tokens as expired and revoked.
+     * Revokes all valid tokens for a user using the configured revocation mode
+     * and drops their cached verifications.
      *
      * @param user the user entity whose tokens to revoke
      */
     private void revokeAllUserTokens(User user) {
-        List<Token> validUserTokens = tokenRepository.findAllValidTokenByUser(user.getId());
-        if (validUserTokens.isEmpty()) {
-            return;
-        }
-        validUserTokens.forEach(token -> {
-            token.setExpired(true);
-            token.setRevoked(true);
-        });
-        tokenRepository.saveAll(validUserTokens);
+        tokenRevocationService.revokeAllUserTokens(user);
+        verifiedTokenCache.evictUser(user.getId());
     }
 
     /**
-     * Finds a role by its name.
+     * Finds a role by its name in the role cache.
      * Throws an exception if the role is not found.
      *
      * @param roleName the name of the role to find
      * @return the role entity
      */
     private Role findRoleByName(RoleName roleName) {
-        return roleRepository.findByName(roleName)
-                .orElseThrow(() -> new ResourceNotFoundException(String.format(ErrorMessages.ROLE_NOT_FOUND_MESSAGE, roleName)));
+        return roleCache.get(roleName);
     }
 
     /**
@@ -257,6 +253,6 @@ public class AuthenticationServiceImpl implements AuthenticationService {
                 .role(role)
                 .build();
 
-        return new SecurityUser(user);
+        return new SecurityUser(user, role.getName());
     }
 }
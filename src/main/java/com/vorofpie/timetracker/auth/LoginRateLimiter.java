@@ -0,0 +1,120 @@
+package com.vorofpie.timetracker.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vorofpie.timetracker.error.exception.TooManyRequestsException;
+import com.vorofpie.timetracker.service.props.LoginRateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.vorofpie.timetracker.error.ErrorMessages.TOO_MANY_LOGIN_ATTEMPTS_MESSAGE;
+
+/**
+ * In-memory token-bucket limiter of login attempts, keyed by account email and by client IP address.
+ * <p>
+ * Buckets live in bounded caches and are dropped after the configured idle timeout. Each bucket is updated with a
+ * lock-free compare-and-set, so concurrent attempts for different keys never contend. The check runs before any
+ * password hashing or database access.
+ */
+@Component
+public class LoginRateLimiter {
+
+    private final LoginRateLimitProperties properties;
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Counter admitted;
+    private final Counter rejectedByEmail;
+    private final Counter rejectedByIp;
+
+    public LoginRateLimiter(LoginRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.emailBuckets = newBucketCache(properties);
+        this.ipBuckets = newBucketCache(properties);
+        this.admitted = Counter.builder("auth.login.attempts")
+                .tag("outcome", "admitted")
+                .tag("limit", "none")
+                .description("Login attempts checked by the rate limiter")
+                .register(meterRegistry);
+        this.rejectedByEmail = Counter.builder("auth.login.attempts")
+                .tag("outcome", "rejected")
+                .tag("limit", "email")
+                .description("Login attempts checked by the rate limiter")
+                .register(meterRegistry);
+        this.rejectedByIp = Counter.builder("auth.login.attempts")
+                .tag("outcome", "rejected")
+                .tag("limit", "ip")
+                .description("Login attempts checked by the rate limiter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consumes one attempt from the buckets of the client address and the email.
+     *
+     * @param email         the email the login is attempted for
+     * @param clientAddress the client IP address, may be null
+     * @throws TooManyRequestsException if either bucket is exhausted
+     */
+    public void acquire(String email, String clientAddress) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (clientAddress != null && !tryConsume(ipBuckets, clientAddress, properties.getIp())) {
+            rejectedByIp.increment();
+            throw new TooManyRequestsException(TOO_MANY_LOGIN_ATTEMPTS_MESSAGE);
+        }
+        if (!tryConsume(emailBuckets, email.toLowerCase(Locale.ROOT), properties.getEmail())) {
+            rejectedByEmail.increment();
+            throw new TooManyRequestsException(TOO_MANY_LOGIN_ATTEMPTS_MESSAGE);
+        }
+        admitted.increment();
+    }
+
+    private static boolean tryConsume(Cache<String, TokenBucket> buckets, String key, LoginRateLimitProperties.Limit limit) {
+        return buckets.get(key, k -> new TokenBucket(limit.getCapacity(), limit.getRefillPeriod().toNanos()))
+                .tryConsume();
+    }
+
+    private static Cache<String, TokenBucket> newBucketCache(LoginRateLimitProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+    }
+
+    /**
+     * Token bucket refilled continuously at {@code capacity / refillPeriod} tokens per nanosecond.
+     */
+    private static final class TokenBucket {
+
+        private final int capacity;
+        private final double tokensPerNano;
+        private final AtomicReference<State> state;
+
+        private TokenBucket(int capacity, long refillPeriodNanos) {
+            this.capacity = capacity;
+            this.tokensPerNano = (double) capacity / refillPeriodNanos;
+            this.state = new AtomicReference<>(new State(capacity, System.nanoTime()));
+        }
+
+        private boolean tryConsume() {
+            while (true) {
+                State current = state.get();
+                long now = System.nanoTime();
+                double available = Math.min(capacity, current.tokens() + (now - current.updatedAt()) * tokensPerNano);
+                if (available < 1) {
+                    return false;
+                }
+                if (state.compareAndSet(current, new State(available - 1, now))) {
+                    return true;
+                }
+            }
+        }
+
+        private record State(double tokens, long updatedAt) {
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.vorofpie.timetracker.auth;
 
-import com.vorofpie.timetracker.token.TokenRepository;
+import com.vorofpie.timetracker.service.TokenRevocationService;
+import com.vorofpie.timetracker.token.VerifiedTokenCache;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -18,8 +19,10 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class LogoutService implements LogoutHandler {
 
-    // Token repository dependency to manage user tokens
-    private final TokenRepository tokenRepository;
+    // Revocation service dependency to invalidate user tokens
+    private final TokenRevocationService tokenRevocationService;
+    // Cache of verified tokens, evicted so that logout takes effect immediately
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * Handles user logout by invalidating the user's JWT token.
@@ -38,17 +41,10 @@ public class LogoutService implements LogoutHandler {
         }
         jwt = authHeader.substring(7); // Extract the token excluding "Bearer "
 
-        // Retrieve the stored token from the repository based on the JWT
-        var storedToken = tokenRepository.findByToken(jwt).orElse(null);
-
-        // If the token is found in the repository
-        if (storedToken != null) {
-            // Mark the token as expired and revoked
-            storedToken.setExpired(true);
-            storedToken.setRevoked(true);
-
-            // Save the updated token state back to the repository
-            tokenRepository.save(storedToken);
+        // Revoke the token using the configured revocation mode
+        if (tokenRevocationService.revokeToken(jwt)) {
+            // Drop the cached verification of the token
+            verifiedTokenCache.evict(jwt);
 
             // Clear the security context to ensure the user is logged out
             SecurityContextHolder.clearContext();
@@ -0,0 +1,93 @@
+package com.vorofpie.timetracker.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vorofpie.timetracker.error.exception.ResourceNotFoundException;
+import com.vorofpie.timetracker.repository.ProjectRepository;
+import com.vorofpie.timetracker.service.props.MembershipCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import static com.vorofpie.timetracker.error.ErrorMessages.PROJECT_NOT_FOUND_MESSAGE;
+
+/**
+ * Cache of project membership decisions keyed by (userId, projectId).
+ * <p>
+ * Both allow and deny results are cached. On a miss the decision is resolved with exists-queries instead of loading
+ * the project and its users. Missing projects are reported with a {@link ResourceNotFoundException} and never cached.
+ * Entries are invalidated when a user is added to a project and when a project or a user is deleted.
+ */
+@Component
+public class ProjectMembershipCache {
+
+    private static final String CACHE_NAME = "projectMembership";
+
+    private final ProjectRepository projectRepository;
+    private final Cache<MembershipKey, Boolean> cache;
+
+    public ProjectMembershipCache(ProjectRepository projectRepository,
+                                  MembershipCacheProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Checks whether the user is a member of the project.
+     *
+     * @param userId    the ID of the user
+     * @param projectId the ID of the project
+     * @return true if the user is a member of the project
+     * @throws ResourceNotFoundException if the project does not exist
+     */
+    public boolean isMember(Long userId, Long projectId) {
+        return cache.get(new MembershipKey(userId, projectId), key -> resolve(userId, projectId));
+    }
+
+    /**
+     * Removes the cached decision for the user and the project.
+     *
+     * @param userId    the ID of the user
+     * @param projectId the ID of the project
+     */
+    public void evict(Long userId, Long projectId) {
+        cache.invalidate(new MembershipKey(userId, projectId));
+    }
+
+    /**
+     * Removes all cached decisions for the project.
+     *
+     * @param projectId the ID of the project
+     */
+    public void evictProject(Long projectId) {
+        cache.asMap().keySet().removeIf(key -> key.projectId().equals(projectId));
+    }
+
+    /**
+     * Removes all cached decisions for the user.
+     *
+     * @param userId the ID of the user
+     */
+    public void evictUser(Long userId) {
+        cache.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+    }
+
+    private boolean resolve(Long userId, Long projectId) {
+        if (projectRepository.existsByIdAndUsers_Id(projectId, userId)) {
+            return true;
+        }
+        if (!projectRepository.existsById(projectId)) {
+            throw new ResourceNotFoundException(String.format(PROJECT_NOT_FOUND_MESSAGE, projectId));
+        }
+        return false;
+    }
+
+    private record MembershipKey(Long userId, Long projectId) {
+    }
+}
@@ -0,0 +1,235 @@
+package com.vorofpie.timetracker.cache;
+
+import com.vorofpie.timetracker.service.props.MembershipIndexProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+/**
+ * In-memory bidirectional index of project membership: userId to projectIds and projectId to userIds.
+ * <p>
+ * Member ids are kept in sorted primitive {@code long[]} arrays that are replaced on every change, so reads are
+ * lock-free binary searches. The index is loaded from the project_users table once the application is ready,
+ * reloaded periodically to pick up changes made by other instances, and kept in sync by the services changing
+ * memberships. Until the first load completes {@link #isReady()} returns false and callers fall back to queries.
+ */
+@Slf4j
+@Component
+public class ProjectMembershipIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MembershipIndexProperties properties;
+    // Guards mutations and the replay log, reads never lock
+    private final Object mutationLock = new Object();
+    private volatile Snapshot snapshot = new Snapshot();
+    private volatile boolean ready;
+    // Mutations made while a reload is running, replayed onto the reloaded snapshot
+    private List<Consumer<Snapshot>> replayLog;
+
+    public ProjectMembershipIndex(JdbcTemplate jdbcTemplate,
+                                  MembershipIndexProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        Gauge.builder("membership.index.users", this, index -> index.snapshot.projectsByUser.size())
+                .description("Users present in the project membership index")
+                .register(meterRegistry);
+        Gauge.builder("membership.index.projects", this, index -> index.snapshot.usersByProject.size())
+                .description("Projects present in the project membership index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns whether the index is loaded and may be used instead of database queries.
+     *
+     * @return true if the index can answer membership questions
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Checks whether the user is a member of the project.
+     *
+     * @param userId    the ID of the user
+     * @param projectId the ID of the project
+     * @return true if the user is a member of the project
+     */
+    public boolean isMember(long userId, long projectId) {
+        return Arrays.binarySearch(snapshot.projectsByUser.getOrDefault(userId, EMPTY), projectId) >= 0;
+    }
+
+    /**
+     * Returns the IDs of the projects the user is a member of.
+     *
+     * @param userId the ID of the user
+     * @return the project IDs in ascending order
+     */
+    public List<Long> projectIdsOf(long userId) {
+        return LongStream.of(snapshot.projectsByUser.getOrDefault(userId, EMPTY)).boxed().toList();
+    }
+
+    /**
+     * Returns the IDs of the members of the project.
+     *
+     * @param projectId the ID of the project
+     * @return the user IDs in ascending order, the array must not be modified
+     */
+    public long[] userIdsOf(long projectId) {
+        return snapshot.usersByProject.getOrDefault(projectId, EMPTY);
+    }
+
+    /**
+     * Records that the user was added to the project.
+     *
+     * @param userId    the ID of the user
+     * @param projectId the ID of the project
+     */
+    public void addMember(long userId, long projectId) {
+        mutate(s -> s.add(userId, projectId));
+    }
+
+    /**
+     * Removes the project and all of its memberships.
+     *
+     * @param projectId the ID of the project
+     */
+    public void removeProject(long projectId) {
+        mutate(s -> s.removeProject(projectId));
+    }
+
+    /**
+     * Removes the user and all of their memberships.
+     *
+     * @param userId the ID of the user
+     */
+    public void removeUser(long userId) {
+        mutate(s -> s.removeUser(userId));
+    }
+
+    /**
+     * Loads the index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * Rebuilds the index from the project_users table. Mutations made during the reload are replayed onto the
+     * rebuilt index before it replaces the current one.
+     */
+    @Scheduled(
+            initialDelayString = "${application.security.membership-index.reload-interval:PT10M}",
+            fixedDelayString = "${application.security.membership-index.reload-interval:PT10M}"
+    )
+    public void reload() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        synchronized (mutationLock) {
+            replayLog = new ArrayList<>();
+        }
+        Snapshot fresh = new Snapshot();
+        try {
+            jdbcTemplate.query("select user_id, project_id from project_users",
+                    (RowCallbackHandler) rs -> fresh.add(rs.getLong(1), rs.getLong(2)));
+        } catch (RuntimeException e) {
+            synchronized (mutationLock) {
+                replayLog = null;
+            }
+            log.error("Failed to load the project membership index", e);
+            return;
+        }
+        synchronized (mutationLock) {
+            replayLog.forEach(mutation -> mutation.accept(fresh));
+            replayLog = null;
+            snapshot = fresh;
+        }
+        ready = true;
+        log.info("Loaded project membership index: {} users, {} projects",
+                fresh.projectsByUser.size(), fresh.usersByProject.size());
+    }
+
+    private void mutate(Consumer<Snapshot> mutation) {
+        synchronized (mutationLock) {
+            mutation.accept(snapshot);
+            if (replayLog != null) {
+                replayLog.add(mutation);
+            }
+        }
+    }
+
+    /**
+     * Both directions of the index. Mutated only under the mutation lock, array values are never modified in place.
+     */
+    private static final class Snapshot {
+
+        private final Map<Long, long[]> projectsByUser = new ConcurrentHashMap<>();
+        private final Map<Long, long[]> usersByProject = new ConcurrentHashMap<>();
+
+        private void add(long userId, long projectId) {
+            projectsByUser.put(userId, insert(projectsByUser.getOrDefault(userId, EMPTY), projectId));
+            usersByProject.put(projectId, insert(usersByProject.getOrDefault(projectId, EMPTY), userId));
+        }
+
+        private void removeProject(long projectId) {
+            for (long userId : usersByProject.getOrDefault(projectId, EMPTY)) {
+                removeFrom(projectsByUser, userId, projectId);
+            }
+            usersByProject.remove(projectId);
+        }
+
+        private void removeUser(long userId) {
+            for (long projectId : projectsByUser.getOrDefault(userId, EMPTY)) {
+                removeFrom(usersByProject, projectId, userId);
+            }
+            projectsByUser.remove(userId);
+        }
+
+        private static void removeFrom(Map<Long, long[]> map, long key, long value) {
+            long[] values = map.getOrDefault(key, EMPTY);
+            int position = Arrays.binarySearch(values, value);
+            if (position < 0) {
+                return;
+            }
+            if (values.length == 1) {
+                map.remove(key);
+                return;
+            }
+            long[] copy = new long[values.length - 1];
+            System.arraycopy(values, 0, copy, 0, position);
+            System.arraycopy(values, position + 1, copy, position, values.length - position - 1);
+            map.put(key, copy);
+        }
+
+        private static long[] insert(long[] values, long value) {
+            int position = Arrays.binarySearch(values, value);
+            if (position >= 0) {
+                return values;
+            }
+            int insertAt = -position - 1;
+            long[] copy = new long[values.length + 1];
+            System.arraycopy(values, 0, copy, 0, insertAt);
+            copy[insertAt] = value;
+            System.arraycopy(values, insertAt, copy, insertAt + 1, values.length - insertAt);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.vorofpie.timetracker.cache;
+
+import com.vorofpie.timetracker.domain.Role;
+import com.vorofpie.timetracker.domain.RoleName;
+import com.vorofpie.timetracker.domain.User;
+import com.vorofpie.timetracker.error.exception.ResourceNotFoundException;
+import com.vorofpie.timetracker.repository.RoleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.vorofpie.timetracker.error.ErrorMessages.ROLE_NOT_FOUND_MESSAGE;
+
+/**
+ * Immutable cache of the roles table, loaded once at startup.
+ * <p>
+ * Roles are reference data that never change at runtime. Resolving a user's role through this cache uses only the
+ * role ID, so the lazy role association of a user is never initialized.
+ */
+@Component
+@RequiredArgsConstructor
+public class RoleCache {
+
+    private final RoleRepository roleRepository;
+    private final Map<RoleName, Role> rolesByName = new EnumMap<>(RoleName.class);
+    private final Map<Long, RoleName> namesById = new HashMap<>();
+
+    /**
+     * Loads all roles.
+     */
+    @PostConstruct
+    public void load() {
+        for (Role role : roleRepository.findAll()) {
+            rolesByName.put(role.getName(), role);
+            namesById.put(role.getId(), role.getName());
+        }
+    }
+
+    /**
+     * Returns the role with the given name.
+     *
+     * @param roleName the name of the role
+     * @return the role entity
+     * @throws ResourceNotFoundException if the role does not exist
+     */
+    public Role get(RoleName roleName) {
+        Role role = rolesByName.get(roleName);
+        if (role == null) {
+            throw new ResourceNotFoundException(String.format(ROLE_NOT_FOUND_MESSAGE, roleName));
+        }
+        return role;
+    }
+
+    /**
+     * Returns the role name of the user without initializing the lazy role association.
+     *
+     * @param user the user
+     * @return the name of the user's role
+     */
+    public RoleName roleOf(User user) {
+        Role role = user.getRole();
+        Long roleId = role instanceof HibernateProxy proxy
+                ? (Long) proxy.getHibernateLazyInitializer().getIdentifier()
+                : role.getId();
+        RoleName roleName = namesById.get(roleId);
+        if (roleName == null) {
+            throw new ResourceNotFoundException(String.format(ROLE_NOT_FOUND_MESSAGE, roleId));
+        }
+        return roleName;
+    }
+}
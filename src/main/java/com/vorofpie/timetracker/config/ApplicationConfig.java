@@ -1,6 +1,8 @@
 package com.vorofpie.timetracker.config;
 
 import com.vorofpie.timetracker.service.impl.CustomUserDetailsService;
+import com.vorofpie.timetracker.service.props.PasswordHashingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
@@ -12,9 +14,12 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
 
+import java.util.Map;
+
 /**
  * Configuration class for setting up beans related to security and validation.
  * This class is responsible for configuring security-related beans such as
@@ -26,6 +31,10 @@ public class ApplicationConfig {
 
     // Custom user details service used for authentication
     private final CustomUserDetailsService userDetailsService;
+    // Password hashing settings such as the work factor and the hashing pool size
+    private final PasswordHashingProperties passwordHashingProperties;
+    // Registry the password hashing metrics are published to
+    private final MeterRegistry meterRegistry;
 
     /**
      * Configures a message source for validation messages.
@@ -83,6 +92,8 @@ public class ApplicationConfig {
         authProvider.setUserDetailsService(userDetailsService());
         // Set the PasswordEncoder used for encoding passwords
         authProvider.setPasswordEncoder(passwordEncoder());
+        // Rehash passwords stored with an outdated encoding on successful login
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         // Return the configured authentication provider
         return authProvider;
     }
@@ -102,13 +113,24 @@ public class ApplicationConfig {
 
     /**
      * Configures the PasswordEncoder bean used for encoding and verifying passwords.
-     * Uses BCryptPasswordEncoder for secure password hashing.
+     * Uses a DelegatingPasswordEncoder producing BCrypt hashes with the configured work factor, which also verifies
+     * legacy hashes stored without an encoding prefix. All hashing runs on a dedicated bounded thread pool.
      *
      * @return the configured PasswordEncoder bean
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        // Return a new instance of BCryptPasswordEncoder for secure password encoding
-        return new BCryptPasswordEncoder();
+        // Create a BCrypt encoder with the configured work factor
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(passwordHashingProperties.getStrength());
+        // Encode new passwords with the "{bcrypt}" prefix and verify prefix-less legacy hashes with BCrypt
+        DelegatingPasswordEncoder delegatingEncoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegatingEncoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        // Run the hashing on a bounded pool so login bursts cannot starve other requests
+        return new BoundedPasswordEncoder(
+                delegatingEncoder,
+                passwordHashingProperties.getPoolSize(),
+                passwordHashingProperties.getQueueCapacity(),
+                meterRegistry
+        );
     }
 }
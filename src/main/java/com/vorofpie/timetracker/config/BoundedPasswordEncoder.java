@@ -0,0 +1,112 @@
+package com.vorofpie.timetracker.config;
+
+import com.vorofpie.timetracker.error.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.vorofpie.timetracker.error.ErrorMessages.SERVICE_OVERLOADED_MESSAGE;
+
+/**
+ * Password encoder running all hashing work on a dedicated bounded thread pool.
+ * <p>
+ * Password hashing is deliberately CPU-expensive, so a burst of logins could otherwise occupy every servlet thread
+ * and starve regular API traffic. Hashing requests wait in a bounded queue, and requests that do not fit are rejected
+ * immediately with a {@link ServiceOverloadedException}. Hash time and queue wait are published as metrics.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejections;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.encodeTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "encode")
+                .description("Time spent hashing passwords")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash")
+                .tag("operation", "matches")
+                .description("Time spent hashing passwords")
+                .register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.queue.wait")
+                .description("Time password hashing requests wait for a free thread")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejections = Counter.builder("auth.password.rejected")
+                .description("Password hashing requests rejected because the pool was saturated")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only inspects the stored hash, no hashing involved
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stops the hashing threads.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Runs a hashing task on the pool and waits for its result.
+     *
+     * @param task  the hashing task
+     * @param timer the timer recording the hashing time
+     * @param <T>   the result type
+     * @return the task result
+     * @throws ServiceOverloadedException if the pool queue is full
+     */
+    private <T> T execute(Callable<T> task, Timer timer) {
+        long submittedAt = System.nanoTime();
+        try {
+            return executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            }).get();
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new ServiceOverloadedException(SERVICE_OVERLOADED_MESSAGE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException(SERVICE_OVERLOADED_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
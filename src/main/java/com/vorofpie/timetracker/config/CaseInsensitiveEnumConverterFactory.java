@@ -0,0 +1,25 @@
+package com.vorofpie.timetracker.config;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.ConverterFactory;
+
+import java.util.Locale;
+
+/**
+ * Converts request parameters to enum constants regardless of case, so {@code view=summary} and
+ * {@code view=SUMMARY} are the same. Blank values convert to null, which makes the parameter default apply.
+ */
+public class CaseInsensitiveEnumConverterFactory implements ConverterFactory<String, Enum> {
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T extends Enum> Converter<String, T> getConverter(Class<T> targetType) {
+        return source -> {
+            String value = source.trim();
+            if (value.isEmpty()) {
+                return null;
+            }
+            return (T) Enum.valueOf((Class) targetType, value.toUpperCase(Locale.ROOT));
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.vorofpie.timetracker.config;
+
+import com.vorofpie.timetracker.domain.RoleName;
+
+import static com.vorofpie.timetracker.domain.RoleName.ADMIN;
+
+/**
+ * The authenticated user of the current request.
+ * Built from the {@link SecurityUser} principal loaded by the authentication filter, so it never requires a query.
+ *
+ * @param id    the ID of the user
+ * @param email the email of the user
+ * @param role  the role of the user
+ */
+public record CurrentUser(Long id, String email, RoleName role) {
+
+    /**
+     * Creates the current user from the authenticated principal.
+     *
+     * @param securityUser the authenticated principal
+     * @return the current user
+     */
+    public static CurrentUser of(SecurityUser securityUser) {
+        return new CurrentUser(
+                securityUser.user().getId(),
+                securityUser.user().getEmail(),
+                securityUser.role()
+        );
+    }
+
+    /**
+     * Checks whether the user has the admin role.
+     *
+     * @return true if the user is an admin
+     */
+    public boolean isAdmin() {
+        return role == ADMIN;
+    }
+}
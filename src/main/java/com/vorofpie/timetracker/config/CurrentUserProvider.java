@@ -0,0 +1,53 @@
+package com.vorofpie.timetracker.config;
+
+import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Provides the authenticated user of the current request.
+ * <p>
+ * The user is resolved once per request from the {@link SecurityUser} principal and kept as a request attribute,
+ * so aspects and services share it without querying the database.
+ */
+@Component
+public class CurrentUserProvider {
+
+    private static final String ATTRIBUTE_NAME = CurrentUser.class.getName();
+
+    /**
+     * Returns the authenticated user of the current request.
+     *
+     * @return the current user
+     * @throws AuthenticationCredentialsNotFoundException if the request is not authenticated
+     */
+    public CurrentUser get() {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return resolve();
+        }
+        // Reuse the user resolved earlier in the same request
+        CurrentUser currentUser = (CurrentUser) requestAttributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+        if (currentUser == null) {
+            currentUser = resolve();
+            requestAttributes.setAttribute(ATTRIBUTE_NAME, currentUser, RequestAttributes.SCOPE_REQUEST);
+        }
+        return currentUser;
+    }
+
+    /**
+     * Builds the current user from the principal of the security context.
+     *
+     * @return the current user
+     */
+    private CurrentUser resolve() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof SecurityUser securityUser)) {
+            throw new AuthenticationCredentialsNotFoundException("No authenticated user");
+        }
+        return CurrentUser.of(securityUser);
+    }
+}
@@ -0,0 +1,38 @@
+package com.vorofpie.timetracker.config;
+
+import com.vorofpie.timetracker.controller.ProjectController;
+import com.vorofpie.timetracker.controller.TaskDetailController;
+import com.vorofpie.timetracker.mapper.FieldSelection;
+import com.vorofpie.timetracker.mapper.FieldSelectionFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Leaves the properties excluded by the {@code fields} and {@code expand} parameters out of project and task
+ * responses. Responses of requests without these parameters are written in full, null properties included.
+ */
+@RestControllerAdvice(assignableTypes = {ProjectController.class, TaskDetailController.class})
+public class FieldSelectionResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        String fields = httpRequest.getParameter("fields");
+        String expand = httpRequest.getParameter("expand");
+        if (fields != null || expand != null) {
+            bodyContainer.setFilters(FieldSelectionFilter.provider(FieldSelection.of(fields, expand)));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.vorofpie.timetracker.config;
+
+import com.vorofpie.timetracker.mapper.FieldSelectionFilter;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of JSON serialization.
+ */
+@Configuration
+public class JacksonConfiguration {
+
+    /**
+     * Registers the default filter of response DTOs, writing all properties.
+     * Requests selecting fields replace it per response, see {@link FieldSelectionResponseAdvice}.
+     *
+     * @return the customizer of the application ObjectMapper
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldSelectionFilterCustomizer() {
+        return builder -> builder.filters(FieldSelectionFilter.serializeAllProvider());
+    }
+}
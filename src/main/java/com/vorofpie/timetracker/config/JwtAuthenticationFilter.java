@@ -1,7 +1,10 @@
 package com.vorofpie.timetracker.config;
 
 import com.vorofpie.timetracker.service.JwtService;
-import com.vorofpie.timetracker.token.TokenRepository;
+import com.vorofpie.timetracker.service.TokenRevocationService;
+import com.vorofpie.timetracker.token.ParsedToken;
+import com.vorofpie.timetracker.token.VerifiedTokenCache;
+import com.vorofpie.timetracker.token.VerifiedTokenCache.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,7 +14,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -31,8 +33,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
     // Service for loading user-specific data based on username (email in this case)
     private final UserDetailsService userDetailsService;
-    // Repository for managing tokens, used to check if the token is revoked or expired
-    private final TokenRepository tokenRepository;
+    // Service checking whether the token has been revoked, according to the configured revocation mode
+    private final TokenRevocationService tokenRevocationService;
+    // Cache of already verified tokens, used to skip verification of repeated tokens
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * Filters incoming requests to perform JWT authentication.
@@ -60,7 +64,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Retrieve the Authorization header from the request
         final String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
         final String jwtToken;
-        final String userEmail;
 
         // Proceed with the filter chain if the Authorization header is missing or does not start with "Bearer "
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -70,20 +73,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // Extract the JWT token from the header by removing the "Bearer " prefix
         jwtToken = authHeader.substring(7);
-        // Extract the user email from the JWT token
-        userEmail = jwtService.extractUserEmail(jwtToken);
 
-        // If user email is extracted and no authentication is set in the security context
-        if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            // Load user details from the UserDetailsService
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            // Check if the token is valid (not expired or revoked)
-            boolean isTokenValid = tokenRepository.findByToken(jwtToken)
-                    .map(t -> !t.isExpired() && !t.isRevoked())
-                    .orElse(false);
+        // If no authentication is set in the security context
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            // Reuse a previous verification of the same token, verifying it fully on a cache miss
+            VerifiedToken verifiedToken = verifiedTokenCache.get(jwtToken, this::verifyToken);
 
-            // If the token is valid according to the JwtService and token repository
-            if (jwtService.isTokenValid(jwtToken, userDetails) && isTokenValid) {
+            // If the token is valid according to the JwtService and the revocation service
+            if (verifiedToken.valid()) {
+                SecurityUser userDetails = verifiedToken.user();
                 // Create an authentication token with user details and authorities
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails,
@@ -103,4 +101,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Continue the filter chain processing
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Fully verifies a JWT token: checks its signature, expiration and type, loads the user it belongs to
+     * and checks that the token has not been revoked. Refresh tokens are rejected.
+     *
+     * @param jwtToken the JWT token to verify
+     * @return the verification result
+     */
+    private VerifiedToken verifyToken(String jwtToken) {
+        // Verify the JWT token once and extract the user email from it
+        ParsedToken parsedToken = jwtService.parseToken(jwtToken);
+        long issuedAt = parsedToken.claims().getIssuedAt() == null ? 0L : parsedToken.claims().getIssuedAt().getTime();
+        if (parsedToken.subject() == null || !parsedToken.hasType(JwtService.ACCESS_TOKEN_TYPE)) {
+            return new VerifiedToken(null, false, issuedAt, parsedToken.expiration().getTime());
+        }
+        // Load user details from the UserDetailsService
+        SecurityUser userDetails = (SecurityUser) userDetailsService.loadUserByUsername(parsedToken.subject());
+        // Check if the token is valid (not expired or revoked)
+        boolean isTokenValid = tokenRevocationService.isTokenActive(jwtToken, parsedToken, userDetails.user());
+        return new VerifiedToken(
+                userDetails,
+                isTokenValid && jwtService.isTokenValid(parsedToken, userDetails),
+                issuedAt,
+                parsedToken.expiration().getTime()
+        );
+    }
 }
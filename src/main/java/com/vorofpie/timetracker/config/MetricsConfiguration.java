@@ -0,0 +1,24 @@
+package com.vorofpie.timetracker.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of application metrics.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    /**
+     * Enables the {@link io.micrometer.core.annotation.Timed} annotation on Spring beans.
+     *
+     * @param meterRegistry the registry timers are published to
+     * @return the TimedAspect bean
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,37 @@
+package com.vorofpie.timetracker.config;
+
+import com.vorofpie.timetracker.domain.RoleName;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precomputed granted authorities of every role.
+ * Each role maps to one immutable singleton list, so authorities are never rebuilt per request.
+ */
+public final class RoleAuthorities {
+
+    private static final Map<RoleName, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(RoleName.class);
+
+    static {
+        for (RoleName roleName : RoleName.values()) {
+            AUTHORITIES.put(roleName, List.of(new SimpleGrantedAuthority("ROLE_" + roleName.name())));
+        }
+    }
+
+    private RoleAuthorities() {
+    }
+
+    /**
+     * Returns the granted authorities of the role.
+     *
+     * @param roleName the role
+     * @return the shared immutable list of authorities
+     */
+    public static List<GrantedAuthority> of(RoleName roleName) {
+        return AUTHORITIES.get(roleName);
+    }
+}
@@ -5,6 +5,7 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 import io.swagger.v3.oas.models.security.SecurityRequirement;
 import io.swagger.v3.oas.models.security.SecurityScheme;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -77,6 +78,8 @@ public class SecurityConfiguration {
                 // Disable Cross-Site Request Forgery (CSRF) protection
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(req -> req
+                        // Permit async dispatches of streamed responses, the request was authorized on the initial dispatch
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Permit all requests to authentication endpoints
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         // Permit all requests to Swagger UI endpoints for API documentation
@@ -88,6 +91,8 @@ public class SecurityConfiguration {
                         .requestMatchers(DELETE, "/api/v1/projects/**").hasRole(ADMIN.name())
                         // Restrict GET requests to /api/v1/users to users with ADMIN role
                         .requestMatchers(GET, "/api/v1/users").hasRole(ADMIN.name())
+                        // Restrict bulk file exports to users with ADMIN role
+                        .requestMatchers("/api/v1/exports/**").hasRole(ADMIN.name())
                         // Require authentication for all other requests
                         .anyRequest().authenticated()
                 )
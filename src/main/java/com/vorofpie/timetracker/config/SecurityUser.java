@@ -1,30 +1,41 @@
 package com.vorofpie.timetracker.config;
 
+import com.vorofpie.timetracker.domain.RoleName;
 import com.vorofpie.timetracker.domain.User;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
-import java.util.List;
+
+import static com.vorofpie.timetracker.domain.RoleName.ADMIN;
 
 /**
  * Custom implementation of UserDetails to represent user information for Spring Security.
  * This class wraps around a User domain object and provides the necessary methods for security.
  * It implements UserDetails, which is required for Spring Security's authentication process.
+ * The role is resolved once when the principal is created, so the lazy role association is never touched.
  */
-public record SecurityUser(User user) implements UserDetails {
+public record SecurityUser(User user, RoleName role) implements UserDetails {
 
     /**
      * Returns the authorities granted to the user.
-     * In this implementation, it creates a single authority based on the user's role.
+     * In this implementation, it returns the precomputed single authority of the user's role.
      *
      * @return a collection of granted authorities for the user
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        // Create a list with a single authority based on the user's role
-        return List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().getName().name()));
+        // Return the shared authority list of the user's role
+        return RoleAuthorities.of(role);
+    }
+
+    /**
+     * Checks whether the user has the admin role.
+     *
+     * @return true if the user is an admin
+     */
+    public boolean isAdmin() {
+        return role == ADMIN;
     }
 
     /**
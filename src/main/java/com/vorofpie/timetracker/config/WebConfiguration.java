@@ -0,0 +1,22 @@
+package com.vorofpie.timetracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration of request handling.
+ */
+@Configuration
+public class WebConfiguration implements WebMvcConfigurer {
+
+    /**
+     * Replaces the default case-sensitive conversion of request parameters to enums.
+     *
+     * @param registry the registry of converters and formatters
+     */
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverterFactory(new CaseInsensitiveEnumConverterFactory());
+    }
+}
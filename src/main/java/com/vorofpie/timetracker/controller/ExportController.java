@@ -0,0 +1,60 @@
+package com.vorofpie.timetracker.controller;
+
+import com.vorofpie.timetracker.dto.request.RecordExportFilter;
+import com.vorofpie.timetracker.dto.response.ExportJobResponse;
+import com.vorofpie.timetracker.service.CsvExportService;
+import com.vorofpie.timetracker.swagger.ExportApi;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/exports")
+public class ExportController implements ExportApi {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private final CsvExportService csvExportService;
+
+    @PostMapping("/records")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Override
+    public ExportJobResponse startRecordExport(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return csvExportService.startRecordExport(new RecordExportFilter(userId, projectId, from, to));
+    }
+
+    @GetMapping("/{id}")
+    @ResponseStatus(HttpStatus.OK)
+    @Override
+    public ExportJobResponse getExportJob(@PathVariable UUID id) {
+        return csvExportService.getExportJob(id);
+    }
+
+    @GetMapping("/{id}/file")
+    @Override
+    public ResponseEntity<Resource> getExportFile(@PathVariable UUID id) {
+        Resource file = csvExportService.getExportFile(id);
+        return ResponseEntity.ok()
+                .contentType(TEXT_CSV)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("records-" + id + ".csv")
+                        .build()
+                        .toString())
+                .body(file);
+    }
+}
@@ -1,8 +1,11 @@
 package com.vorofpie.timetracker.controller;
 
 import com.vorofpie.timetracker.dto.request.CreateProjectRequest;
+import com.vorofpie.timetracker.dto.request.ListView;
 import com.vorofpie.timetracker.dto.request.UpdateProjectRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
 import com.vorofpie.timetracker.dto.response.ProjectResponse;
+import com.vorofpie.timetracker.mapper.FieldSelection;
 import com.vorofpie.timetracker.service.ProjectService;
 import com.vorofpie.timetracker.swagger.ProjectApi;
 import jakarta.validation.Valid;
@@ -10,8 +13,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/projects")
@@ -43,15 +44,27 @@ public class ProjectController implements ProjectApi {
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @Override
-    public ProjectResponse getProjectById(@PathVariable Long id) {
-        return projectService.getProjectById(id);
+    public ProjectResponse getProjectById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand
+    ) {
+        return projectService.getProjectById(id, FieldSelection.of(fields, expand));
     }
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     @Override
-    public List<ProjectResponse> getAllProjects() {
-        return projectService.getAllProjects();
+    public CursorPageResponse<?> getAllProjects(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "full") ListView view,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand
+    ) {
+        return view == ListView.SUMMARY
+                ? projectService.getProjectSummaries(cursor, limit)
+                : projectService.getAllProjects(cursor, limit, FieldSelection.of(fields, expand));
     }
 
     @PostMapping("/{projectId}/users/{userId}")
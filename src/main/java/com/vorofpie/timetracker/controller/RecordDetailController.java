@@ -1,14 +1,31 @@
 package com.vorofpie.timetracker.controller;
 
+import com.vorofpie.timetracker.dto.request.ListView;
+import com.vorofpie.timetracker.dto.request.PeriodGranularity;
+import com.vorofpie.timetracker.dto.request.RecordBatchRequest;
 import com.vorofpie.timetracker.dto.request.RecordDetailRequest;
+import com.vorofpie.timetracker.dto.request.RecordExportFilter;
+import com.vorofpie.timetracker.dto.request.RecordSearchFilter;
+import com.vorofpie.timetracker.dto.request.TimesheetFilter;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
+import com.vorofpie.timetracker.dto.response.RecordBatchResponse;
 import com.vorofpie.timetracker.dto.response.RecordDetailResponse;
+import com.vorofpie.timetracker.dto.response.TimesheetEntry;
 import com.vorofpie.timetracker.service.RecordDetailService;
+import com.vorofpie.timetracker.service.RecordExportService;
+import com.vorofpie.timetracker.service.TimesheetService;
 import com.vorofpie.timetracker.swagger.RecordDetailApi;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -16,7 +33,11 @@ import java.util.List;
 @RequestMapping("/api/v1/records")
 public class RecordDetailController implements RecordDetailApi {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     private final RecordDetailService recordDetailService;
+    private final RecordExportService recordExportService;
+    private final TimesheetService timesheetService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -25,6 +46,13 @@ public class RecordDetailController implements RecordDetailApi {
         return recordDetailService.createRecordDetail(RecordDetailRequest);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    @Override
+    public RecordBatchResponse createRecordDetails(@RequestBody @Valid RecordBatchRequest recordBatchRequest) {
+        return recordDetailService.createRecordDetails(recordBatchRequest);
+    }
+
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @Override
@@ -49,7 +77,55 @@ public class RecordDetailController implements RecordDetailApi {
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     @Override
-    public List<RecordDetailResponse> getAllRecordDetails() {
-        return recordDetailService.getAllRecordDetails();
+    public CursorPageResponse<?> getAllRecordDetails(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "full") ListView view
+    ) {
+        return view == ListView.SUMMARY
+                ? recordDetailService.getRecordDetailSummaries(cursor, limit)
+                : recordDetailService.getAllRecordDetails(cursor, limit);
+    }
+
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    @Override
+    public CursorPageResponse<RecordDetailResponse> searchRecordDetails(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long taskId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return recordDetailService.searchRecordDetails(new RecordSearchFilter(userId, taskId, projectId, from, to), cursor, limit);
+    }
+
+    @GetMapping("/timesheet")
+    @ResponseStatus(HttpStatus.OK)
+    @Override
+    public List<TimesheetEntry> getTimesheet(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "week") PeriodGranularity granularity
+    ) {
+        return timesheetService.getTimesheet(new TimesheetFilter(userId, projectId, from, to, granularity));
+    }
+
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportRecordDetails(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        StreamingResponseBody body = recordExportService.exportRecords(new RecordExportFilter(userId, projectId, from, to));
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(body);
     }
 }
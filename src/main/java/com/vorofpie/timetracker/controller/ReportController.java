@@ -0,0 +1,40 @@
+package com.vorofpie.timetracker.controller;
+
+import com.vorofpie.timetracker.domain.TaskStatus;
+import com.vorofpie.timetracker.dto.request.PeriodGranularity;
+import com.vorofpie.timetracker.dto.request.ReportDimension;
+import com.vorofpie.timetracker.dto.request.ReportFilter;
+import com.vorofpie.timetracker.dto.response.ReportResponse;
+import com.vorofpie.timetracker.service.ReportService;
+import com.vorofpie.timetracker.swagger.ReportApi;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/reports")
+public class ReportController implements ReportApi {
+
+    private final ReportService reportService;
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    @Override
+    public ReportResponse getReport(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) List<ReportDimension> groupBy,
+            @RequestParam(defaultValue = "month") PeriodGranularity granularity,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) Long taskId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) TaskStatus status
+    ) {
+        return reportService.getReport(new ReportFilter(from, to, groupBy, granularity, projectId, taskId, userId, status));
+    }
+}
@@ -1,7 +1,10 @@
 package com.vorofpie.timetracker.controller;
 
+import com.vorofpie.timetracker.dto.request.ListView;
 import com.vorofpie.timetracker.dto.request.TaskDetailRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
 import com.vorofpie.timetracker.dto.response.TaskDetailResponse;
+import com.vorofpie.timetracker.mapper.FieldSelection;
 import com.vorofpie.timetracker.service.TaskDetailService;
 import com.vorofpie.timetracker.swagger.TaskDetailApi;
 import jakarta.validation.Valid;
@@ -9,8 +12,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/tasks")
@@ -42,14 +43,26 @@ public class TaskDetailController implements TaskDetailApi {
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @Override
-    public TaskDetailResponse getTaskDetailById(@PathVariable Long id) {
-        return taskDetailService.getTaskDetailById(id);
+    public TaskDetailResponse getTaskDetailById(
+            @PathVariable Long id,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand
+    ) {
+        return taskDetailService.getTaskDetailById(id, FieldSelection.of(fields, expand));
     }
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     @Override
-    public List<TaskDetailResponse> getAllTaskDetails() {
-        return taskDetailService.getAllTaskDetails();
+    public CursorPageResponse<?> getAllTaskDetails(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "full") ListView view,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String expand
+    ) {
+        return view == ListView.SUMMARY
+                ? taskDetailService.getTaskDetailSummaries(cursor, limit)
+                : taskDetailService.getAllTaskDetails(cursor, limit, FieldSelection.of(fields, expand));
     }
 }
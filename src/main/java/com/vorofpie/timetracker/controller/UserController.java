@@ -1,6 +1,7 @@
 package com.vorofpie.timetracker.controller;
 
 import com.vorofpie.timetracker.dto.request.UserRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
 import com.vorofpie.timetracker.dto.response.UserResponse;
 import com.vorofpie.timetracker.service.UserService;
 import com.vorofpie.timetracker.swagger.UserApi;
@@ -9,8 +10,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/users")
@@ -42,7 +41,10 @@ public class UserController implements UserApi {
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     @Override
-    public List<UserResponse> getAllUsers() {
-        return userService.getAllUsers();
+    public CursorPageResponse<UserResponse> getAllUsers(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        return userService.getAllUsers(cursor, limit);
     }
 }
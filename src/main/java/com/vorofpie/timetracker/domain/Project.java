@@ -3,6 +3,7 @@ package com.vorofpie.timetracker.domain;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,7 +18,8 @@ import java.util.List;
 @Schema(description = "Project entity representing a project")
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     @Schema(description = "Unique identifier for the project", example = "1")
     private Long id;
@@ -30,6 +32,7 @@ public class Project {
     private String description;
 
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 500)
     @Schema(description = "List of task details associated with the project")
     private List<TaskDetail> taskDetails = new ArrayList<>();
 
@@ -39,6 +42,7 @@ public class Project {
             joinColumns = @JoinColumn(name = "project_id"),
             inverseJoinColumns = @JoinColumn(name = "user_id")
     )
+    @BatchSize(size = 500)
     @Schema(description = "List of users associated with the project")
     private List<User> users = new ArrayList<>();
 }
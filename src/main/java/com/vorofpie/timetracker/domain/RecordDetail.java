@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Schema(description = "Record detail entity representing time entries")
 public class RecordDetail {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "record_details_seq")
+    @SequenceGenerator(name = "record_details_seq", sequenceName = "record_details_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     @Schema(description = "Unique identifier for the record detail", example = "1")
     private Long id;
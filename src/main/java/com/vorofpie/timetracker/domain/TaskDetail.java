@@ -3,6 +3,7 @@ package com.vorofpie.timetracker.domain;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,7 +18,8 @@ import java.util.List;
 @Schema(description = "Task detail entity representing tasks within a project")
 public class TaskDetail {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_details_seq")
+    @SequenceGenerator(name = "task_details_seq", sequenceName = "task_details_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     @Schema(description = "Unique identifier for the task", example = "1")
     private Long id;
@@ -40,6 +42,7 @@ public class TaskDetail {
     private TaskStatus status;
 
     @OneToMany(mappedBy = "task")
+    @BatchSize(size = 500)
     @Schema(description = "List of records associated with this task")
     private List<RecordDetail> recordDetails = new ArrayList<>();
 }
@@ -16,7 +16,8 @@ import java.time.LocalDate;
 @Schema(description = "User entity representing system users")
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     @Column(name = "id", nullable = false)
     @Schema(description = "Unique identifier for the user", example = "1")
     private Long id;
@@ -37,8 +38,12 @@ public class User {
     @Schema(description = "Birth date of the user", example = "1990-01-01")
     private LocalDate birthDate;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "role_id", nullable = false)
     @Schema(description = "Role assigned to the user", example = "1")
     private Role role;
+
+    @Column(name = "token_generation", nullable = false)
+    @Schema(description = "Generation of the user's tokens, incremented on revocation", example = "0")
+    private int tokenGeneration;
 }
@@ -0,0 +1,11 @@
+package com.vorofpie.timetracker.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Shape of the items returned by list endpoints")
+public enum ListView {
+    @Schema(description = "Flat items with counts and tracked time computed by the database")
+    SUMMARY,
+    @Schema(description = "Complete items with all nested collections")
+    FULL
+}
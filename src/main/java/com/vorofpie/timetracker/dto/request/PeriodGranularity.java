@@ -0,0 +1,13 @@
+package com.vorofpie.timetracker.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Length of the periods totals are grouped by")
+public enum PeriodGranularity {
+    @Schema(description = "Calendar days")
+    DAY,
+    @Schema(description = "ISO weeks starting on Monday")
+    WEEK,
+    @Schema(description = "Calendar months")
+    MONTH
+}
@@ -0,0 +1,15 @@
+package com.vorofpie.timetracker.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Record Batch Request DTO")
+public record RecordBatchRequest(
+        @NotEmpty(message = "{recorddetail.batch.notempty}")
+        @Size(max = 10000, message = "{recorddetail.batch.size}")
+        @Schema(description = "Records to create, validated one by one")
+        List<RecordDetailRequest> records
+) {}
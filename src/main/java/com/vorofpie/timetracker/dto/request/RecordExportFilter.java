@@ -0,0 +1,20 @@
+package com.vorofpie.timetracker.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Filters of the record export, all optional")
+public record RecordExportFilter(
+        @Schema(description = "Export only records of this user", example = "1")
+        Long userId,
+
+        @Schema(description = "Export only records of this project", example = "1")
+        Long projectId,
+
+        @Schema(description = "Export only records starting at or after this time", example = "2024-07-01T00:00:00")
+        LocalDateTime from,
+
+        @Schema(description = "Export only records starting before this time", example = "2024-08-01T00:00:00")
+        LocalDateTime to
+) {}
@@ -0,0 +1,23 @@
+package com.vorofpie.timetracker.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Filters of the record search, all optional")
+public record RecordSearchFilter(
+        @Schema(description = "Find only records of this user", example = "1")
+        Long userId,
+
+        @Schema(description = "Find only records of this task", example = "1")
+        Long taskId,
+
+        @Schema(description = "Find only records of this project", example = "1")
+        Long projectId,
+
+        @Schema(description = "Find only records starting at or after this time", example = "2024-07-08T00:00:00")
+        LocalDateTime from,
+
+        @Schema(description = "Find only records starting before this time", example = "2024-07-13T00:00:00")
+        LocalDateTime to
+) {}
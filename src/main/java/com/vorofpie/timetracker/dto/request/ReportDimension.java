@@ -0,0 +1,17 @@
+package com.vorofpie.timetracker.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Property report totals can be grouped by")
+public enum ReportDimension {
+    @Schema(description = "Period the records start in, see the granularity")
+    PERIOD,
+    @Schema(description = "Project of the record's task")
+    PROJECT,
+    @Schema(description = "Task of the record")
+    TASK,
+    @Schema(description = "User of the record")
+    USER,
+    @Schema(description = "Current status of the record's task")
+    STATUS
+}
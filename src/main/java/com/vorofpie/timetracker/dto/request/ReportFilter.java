@@ -0,0 +1,34 @@
+package com.vorofpie.timetracker.dto.request;
+
+import com.vorofpie.timetracker.domain.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Schema(description = "Range, filters and grouping of a report")
+public record ReportFilter(
+        @Schema(description = "First day included, by record start time", example = "2024-01-01")
+        LocalDate from,
+
+        @Schema(description = "First day not included, by record start time", example = "2024-07-01")
+        LocalDate to,
+
+        @Schema(description = "Properties totals are grouped by, in a fixed order regardless of the requested one", example = "[\"PROJECT\", \"USER\"]")
+        List<ReportDimension> groupBy,
+
+        @Schema(description = "Length of the periods when grouped by period", example = "MONTH")
+        PeriodGranularity granularity,
+
+        @Schema(description = "Include only records of this project", example = "1")
+        Long projectId,
+
+        @Schema(description = "Include only records of this task", example = "1")
+        Long taskId,
+
+        @Schema(description = "Include only records of this user", example = "1")
+        Long userId,
+
+        @Schema(description = "Include only records of tasks with this status", example = "IN_PROGRESS")
+        TaskStatus status
+) {}
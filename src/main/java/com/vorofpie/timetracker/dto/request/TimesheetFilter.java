@@ -0,0 +1,23 @@
+package com.vorofpie.timetracker.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "Filters and grouping of a timesheet")
+public record TimesheetFilter(
+        @Schema(description = "Include only time of this user", example = "1")
+        Long userId,
+
+        @Schema(description = "Include only time of this project", example = "1")
+        Long projectId,
+
+        @Schema(description = "First day included", example = "2024-07-01")
+        LocalDate from,
+
+        @Schema(description = "First day not included", example = "2024-08-01")
+        LocalDate to,
+
+        @Schema(description = "Length of the periods totals are grouped by", example = "WEEK")
+        PeriodGranularity granularity
+) {}
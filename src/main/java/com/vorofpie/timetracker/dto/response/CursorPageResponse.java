@@ -0,0 +1,35 @@
+package com.vorofpie.timetracker.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Schema(description = "Page of items fetched by cursor")
+public record CursorPageResponse<T>(
+        @Schema(description = "Items of the page in ascending ID order")
+        List<T> items,
+
+        @Schema(description = "Cursor of the next page, absent on the last page", example = "150")
+        Long nextCursor
+) {
+
+    /**
+     * Builds a page from rows fetched with one extra row beyond the page size.
+     * The extra row only signals that a next page exists and is not returned.
+     *
+     * @param rows        the fetched rows, at most limit + 1
+     * @param limit       the page size
+     * @param idExtractor the function returning the keyset ID of a row
+     * @param mapper      the function mapping a row to a response item
+     * @param <E>         the row type
+     * @param <T>         the item type
+     * @return the page
+     */
+    public static <E, T> CursorPageResponse<T> of(List<E> rows, int limit, Function<E, Long> idExtractor, Function<E, T> mapper) {
+        boolean hasNext = rows.size() > limit;
+        List<E> pageRows = hasNext ? rows.subList(0, limit) : rows;
+        Long nextCursor = hasNext ? idExtractor.apply(pageRows.get(pageRows.size() - 1)) : null;
+        return new CursorPageResponse<>(pageRows.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,34 @@
+package com.vorofpie.timetracker.dto.response;
+
+import com.vorofpie.timetracker.export.ExportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Schema(description = "Export Job Response DTO")
+public record ExportJobResponse(
+        @Schema(description = "Unique identifier for the export job", example = "3f1c2a4e-6d0b-4a8e-9a55-2f7c9d1e8b10")
+        UUID id,
+
+        @Schema(description = "Status of the export job", example = "RUNNING")
+        ExportStatus status,
+
+        @Schema(description = "Number of rows written so far", example = "125000")
+        long rows,
+
+        @Schema(description = "Export throughput in rows per second", example = "85000.5")
+        double rowsPerSecond,
+
+        @Schema(description = "Time the job was submitted", example = "2024-07-13T10:00:00Z")
+        Instant createdAt,
+
+        @Schema(description = "Time the export started", example = "2024-07-13T10:00:01Z")
+        Instant startedAt,
+
+        @Schema(description = "Time the export completed or failed", example = "2024-07-13T10:00:09Z")
+        Instant finishedAt,
+
+        @Schema(description = "Failure message of a failed export")
+        String error
+) {}
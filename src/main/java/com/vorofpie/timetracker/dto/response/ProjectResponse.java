@@ -1,8 +1,11 @@
 package com.vorofpie.timetracker.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.vorofpie.timetracker.mapper.FieldSelectionFilter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 
+@JsonFilter(FieldSelectionFilter.ID)
 @Schema(description = "Project Response DTO")
 public record ProjectResponse(
         @Schema(description = "Unique identifier for the project", example = "1")
@@ -0,0 +1,27 @@
+package com.vorofpie.timetracker.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Project Summary Response DTO")
+public record ProjectSummaryResponse(
+        @Schema(description = "Unique identifier for the project", example = "1")
+        Long id,
+
+        @Schema(description = "Name of the project", example = "Project Alpha")
+        String name,
+
+        @Schema(description = "Description of the project", example = "A description of the project")
+        String description,
+
+        @Schema(description = "Number of tasks in the project", example = "12")
+        long taskCount,
+
+        @Schema(description = "Number of project members", example = "4")
+        long memberCount,
+
+        @Schema(description = "Number of records across all tasks of the project", example = "340")
+        long recordCount,
+
+        @Schema(description = "Total tracked time across all records of the project, in seconds", example = "1224000")
+        long trackedSeconds
+) {}
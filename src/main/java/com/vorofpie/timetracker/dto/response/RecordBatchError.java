@@ -0,0 +1,12 @@
+package com.vorofpie.timetracker.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Record Batch Error DTO")
+public record RecordBatchError(
+        @Schema(description = "Position of the rejected record in the batch, starting at 0", example = "3")
+        int index,
+
+        @Schema(description = "Reason the record was rejected", example = "Task with ID 42 not found")
+        String message
+) {}
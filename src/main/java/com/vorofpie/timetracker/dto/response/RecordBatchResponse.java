@@ -0,0 +1,17 @@
+package com.vorofpie.timetracker.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Record Batch Response DTO")
+public record RecordBatchResponse(
+        @Schema(description = "Number of records in the batch", example = "1000")
+        int received,
+
+        @Schema(description = "Number of records created", example = "998")
+        int created,
+
+        @Schema(description = "Records that were rejected, with the reason")
+        List<RecordBatchError> errors
+) {}
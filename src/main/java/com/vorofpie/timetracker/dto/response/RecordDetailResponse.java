@@ -1,8 +1,11 @@
 package com.vorofpie.timetracker.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.vorofpie.timetracker.mapper.FieldSelectionFilter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDateTime;
 
+@JsonFilter(FieldSelectionFilter.ID)
 @Schema(description = "Record Detail Response DTO")
 public record RecordDetailResponse(
         @Schema(description = "Unique identifier for the record", example = "1")
@@ -0,0 +1,26 @@
+package com.vorofpie.timetracker.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Record Detail Summary Response DTO")
+public record RecordDetailSummaryResponse(
+        @Schema(description = "Unique identifier for the record", example = "1")
+        Long id,
+
+        @Schema(description = "ID of the task the record belongs to", example = "1")
+        Long taskId,
+
+        @Schema(description = "ID of the user who tracked the record", example = "1")
+        Long userId,
+
+        @Schema(description = "Start time of the record", example = "2024-07-13T10:00:00")
+        LocalDateTime startTime,
+
+        @Schema(description = "End time of the record", example = "2024-07-13T12:00:00")
+        LocalDateTime endTime,
+
+        @Schema(description = "Tracked time of the record, in seconds", example = "7200")
+        long durationSeconds
+) {}
@@ -0,0 +1,20 @@
+package com.vorofpie.timetracker.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Aggregated tracked time")
+public record ReportResponse(
+        @Schema(description = "Number of records in the report", example = "120")
+        long recordCount,
+
+        @Schema(description = "Total tracked time in seconds", example = "864000")
+        long totalSeconds,
+
+        @Schema(description = "Average tracked time per record in seconds", example = "7200")
+        long averageSeconds,
+
+        @Schema(description = "Totals per group, ordered by the grouped properties")
+        List<ReportRow> rows
+) {}
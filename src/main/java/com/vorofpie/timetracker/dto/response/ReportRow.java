@@ -0,0 +1,35 @@
+package com.vorofpie.timetracker.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.vorofpie.timetracker.domain.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Totals of one group of a report; properties not grouped by are omitted")
+public record ReportRow(
+        @Schema(description = "First day of the period", example = "2024-07-01")
+        LocalDate period,
+
+        @Schema(description = "ID of the project", example = "1")
+        Long projectId,
+
+        @Schema(description = "ID of the task", example = "1")
+        Long taskId,
+
+        @Schema(description = "ID of the user", example = "1")
+        Long userId,
+
+        @Schema(description = "Status of the task", example = "IN_PROGRESS")
+        TaskStatus status,
+
+        @Schema(description = "Number of records", example = "12")
+        long recordCount,
+
+        @Schema(description = "Total tracked time in seconds", example = "86400")
+        long totalSeconds,
+
+        @Schema(description = "Average tracked time per record in seconds", example = "7200")
+        long averageSeconds
+) {}
@@ -1,9 +1,12 @@
 package com.vorofpie.timetracker.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.vorofpie.timetracker.mapper.FieldSelectionFilter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import com.vorofpie.timetracker.domain.TaskStatus;
 import java.util.List;
 
+@JsonFilter(FieldSelectionFilter.ID)
 @Schema(description = "Task Detail Response DTO")
 public record TaskDetailResponse(
         @Schema(description = "Unique identifier for the task", example = "1")
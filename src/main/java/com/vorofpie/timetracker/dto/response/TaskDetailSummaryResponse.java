@@ -0,0 +1,25 @@
+package com.vorofpie.timetracker.dto.response;
+
+import com.vorofpie.timetracker.domain.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Task Detail Summary Response DTO")
+public record TaskDetailSummaryResponse(
+        @Schema(description = "Unique identifier for the task", example = "1")
+        Long id,
+
+        @Schema(description = "ID of the project the task belongs to", example = "1")
+        Long projectId,
+
+        @Schema(description = "Name of the task", example = "Design Phase")
+        String name,
+
+        @Schema(description = "Status of the task", example = "IN_PROGRESS")
+        TaskStatus status,
+
+        @Schema(description = "Number of records of the task", example = "28")
+        long recordCount,
+
+        @Schema(description = "Total tracked time across all records of the task, in seconds", example = "100800")
+        long trackedSeconds
+) {}
@@ -0,0 +1,20 @@
+package com.vorofpie.timetracker.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+
+@Schema(description = "Time tracked by a user on a project during one period")
+public record TimesheetEntry(
+        @Schema(description = "First day of the period", example = "2024-07-08")
+        LocalDate period,
+
+        @Schema(description = "ID of the user", example = "1")
+        Long userId,
+
+        @Schema(description = "ID of the project", example = "1")
+        Long projectId,
+
+        @Schema(description = "Tracked time in seconds, parts of records crossing the period boundary included", example = "28800")
+        long trackedSeconds
+) {}
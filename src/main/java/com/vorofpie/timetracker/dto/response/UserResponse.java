@@ -1,8 +1,11 @@
 package com.vorofpie.timetracker.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.vorofpie.timetracker.mapper.FieldSelectionFilter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.LocalDate;
 
+@JsonFilter(FieldSelectionFilter.ID)
 @Schema(description = "User Response DTO")
 public record UserResponse(
         @Schema(description = "Unique identifier for the user", example = "1")
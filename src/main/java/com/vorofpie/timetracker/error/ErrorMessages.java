@@ -18,4 +18,14 @@ public final class ErrorMessages {
     public static final String FROM_IN_PROGRESS_TO_COMPLETED_OR_ON_HOLD_STATUS_MESSAGE = "Can only change status from IN_PROGRESS to COMPLETED or ON_HOLD";
 
     public static final String ACCESS_DENIED_ERROR_MESSAGE = "You do not have permission to perform this operation";
+
+    public static final String TOO_MANY_LOGIN_ATTEMPTS_MESSAGE = "Too many login attempts, please retry later";
+
+    public static final String SERVICE_OVERLOADED_MESSAGE = "The service is overloaded, please retry later";
+
+    public static final String EXPORT_JOB_NOT_FOUND_MESSAGE = "Export job with ID %s not found";
+    public static final String EXPORT_FILE_NOT_READY_MESSAGE = "File of export job with ID %s is not available";
+
+    public static final String EMPTY_DATE_RANGE_MESSAGE = "Date range end %s must be after its start %s";
+    public static final String DATE_RANGE_TOO_LONG_MESSAGE = "Date range must not exceed %d days";
 }
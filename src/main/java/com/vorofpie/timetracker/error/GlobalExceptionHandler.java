@@ -4,8 +4,11 @@ import com.vorofpie.timetracker.dto.error.AppError;
 import com.vorofpie.timetracker.dto.error.AppErrorCustom;
 import com.vorofpie.timetracker.error.exception.AccessDeniedException;
 import com.vorofpie.timetracker.error.exception.DuplicateResourceException;
+import com.vorofpie.timetracker.error.exception.InvalidDateRangeException;
 import com.vorofpie.timetracker.error.exception.InvalidStatusTransitionException;
 import com.vorofpie.timetracker.error.exception.ResourceNotFoundException;
+import com.vorofpie.timetracker.error.exception.ServiceOverloadedException;
+import com.vorofpie.timetracker.error.exception.TooManyRequestsException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import org.springframework.http.HttpStatus;
@@ -126,6 +129,23 @@ public class GlobalExceptionHandler {
                 .build();
     }
 
+    /**
+     * Обрабатывает исключения InvalidDateRangeException.
+     * Возвращает ответ с кодом 400 (BAD_REQUEST).
+     *
+     * @param e исключение InvalidDateRangeException
+     * @return объект AppError с деталями ошибки
+     */
+    @ExceptionHandler(InvalidDateRangeException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public AppError handleInvalidDateRangeException(InvalidDateRangeException e) {
+        return AppError.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .message(e.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
     /**
      * Обрабатывает исключения AccessDeniedException.
      * Возвращает ответ с кодом 403 (FORBIDDEN).
@@ -142,4 +162,38 @@ public class GlobalExceptionHandler {
                 .timestamp(LocalDateTime.now())
                 .build();
     }
+
+    /**
+     * Обрабатывает исключения TooManyRequestsException.
+     * Возвращает ответ с кодом 429 (TOO_MANY_REQUESTS).
+     *
+     * @param e исключение TooManyRequestsException
+     * @return объект AppError с деталями ошибки
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public AppError handleTooManyRequestsException(TooManyRequestsException e) {
+        return AppError.builder()
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .message(e.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Обрабатывает исключения ServiceOverloadedException.
+     * Возвращает ответ с кодом 503 (SERVICE_UNAVAILABLE).
+     *
+     * @param e исключение ServiceOverloadedException
+     * @return объект AppError с деталями ошибки
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public AppError handleServiceOverloadedException(ServiceOverloadedException e) {
+        return AppError.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .message(e.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
 }
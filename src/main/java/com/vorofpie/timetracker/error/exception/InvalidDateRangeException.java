@@ -0,0 +1,7 @@
+package com.vorofpie.timetracker.error.exception;
+
+public class InvalidDateRangeException extends RuntimeException {
+    public InvalidDateRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.vorofpie.timetracker.error.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,151 @@
+package com.vorofpie.timetracker.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * CSV writer putting encoded bytes into a direct buffer that is drained straight into a {@link FileChannel}.
+ * <p>
+ * Values repeated across rows, such as user, project and task names, are dictionary-encoded: each distinct string is
+ * escaped and UTF-8 encoded once, and later occurrences copy the cached bytes. The dictionary is bounded, values
+ * beyond its capacity are encoded on every write.
+ * <p>
+ * Text values starting with a character spreadsheets read as the start of a formula are prefixed with a single quote
+ * and quoted, so user-entered text such as {@code =HYPERLINK(...)} is shown as text instead of being evaluated.
+ */
+public class CsvChannelWriter implements Closeable {
+
+    private static final byte SEPARATOR = ',';
+    private static final byte NEW_LINE = '\n';
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final Map<String, byte[]> dictionary = new HashMap<>();
+    private final int dictionaryCapacity;
+    private boolean rowStarted;
+
+    public CsvChannelWriter(Path file, int bufferSize, int dictionaryCapacity) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.dictionaryCapacity = dictionaryCapacity;
+    }
+
+    /**
+     * Writes a value repeated across many rows, encoding it through the dictionary.
+     *
+     * @param value the value, may be null
+     * @throws IOException if the file cannot be written
+     */
+    public void writeRepeated(String value) throws IOException {
+        if (value == null) {
+            writeField(new byte[0]);
+            return;
+        }
+        byte[] encoded = dictionary.get(value);
+        if (encoded == null) {
+            encoded = encode(value);
+            if (dictionary.size() < dictionaryCapacity) {
+                dictionary.put(value, encoded);
+            }
+        }
+        writeField(encoded);
+    }
+
+    /**
+     * Writes a free-text value, encoding it on every write.
+     *
+     * @param value the value, may be null
+     * @throws IOException if the file cannot be written
+     */
+    public void writeText(String value) throws IOException {
+        writeField(value == null ? new byte[0] : encode(value));
+    }
+
+    /**
+     * Writes a value whose text form never needs escaping, such as a number or a timestamp.
+     *
+     * @param value the value, may be null
+     * @throws IOException if the file cannot be written
+     */
+    public void writePlain(Object value) throws IOException {
+        writeField(value == null ? new byte[0] : value.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Ends the current row.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void endRow() throws IOException {
+        put(NEW_LINE);
+        rowStarted = false;
+    }
+
+    /**
+     * Writes the buffered bytes to the file and closes it.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            drain();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeField(byte[] bytes) throws IOException {
+        if (rowStarted) {
+            put(SEPARATOR);
+        }
+        rowStarted = true;
+        if (bytes.length > buffer.capacity()) {
+            drain();
+            ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+            return;
+        }
+        if (buffer.remaining() < bytes.length) {
+            drain();
+        }
+        buffer.put(bytes);
+    }
+
+    private void put(byte value) throws IOException {
+        if (!buffer.hasRemaining()) {
+            drain();
+        }
+        buffer.put(value);
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Neutralizes formula prefixes, escapes the value following RFC 4180 and encodes it as UTF-8.
+     */
+    private static byte[] encode(String value) {
+        boolean formula = !value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0;
+        String text = formula ? "'" + value : value;
+        boolean needsQuotes = formula || text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0;
+        String escaped = needsQuotes ? '"' + text.replace("\"", "\"\"") + '"' : text;
+        return escaped.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,65 @@
+package com.vorofpie.timetracker.export;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * State of one background export job. Updated by the exporting thread and read by status requests.
+ */
+@Getter
+public class ExportJob {
+
+    private final UUID id; // Identifier of the job
+    private final Path file; // File the export is written to
+    private final Instant createdAt; // Time the job was submitted
+    private volatile ExportStatus status = ExportStatus.QUEUED; // Current state of the job
+    private volatile long rows; // Rows written so far
+    private volatile Instant startedAt; // Time the export started running
+    private volatile Instant finishedAt; // Time the export completed or failed
+    private volatile String error; // Failure message of a failed job
+
+    public ExportJob(UUID id, Path file) {
+        this.id = id;
+        this.file = file;
+        this.createdAt = Instant.now();
+    }
+
+    public void start() {
+        startedAt = Instant.now();
+        status = ExportStatus.RUNNING;
+    }
+
+    public void progress(long rows) {
+        this.rows = rows;
+    }
+
+    public void complete(long rows) {
+        this.rows = rows;
+        finishedAt = Instant.now();
+        status = ExportStatus.COMPLETED;
+    }
+
+    public void fail(String error) {
+        this.error = error;
+        finishedAt = Instant.now();
+        status = ExportStatus.FAILED;
+    }
+
+    /**
+     * Returns the export throughput, measured up to now for running jobs.
+     *
+     * @return written rows per second, 0 if the job has not started
+     */
+    public double rowsPerSecond() {
+        if (startedAt == null) {
+            return 0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        long millis = Math.max(1, Duration.between(startedAt, end).toMillis());
+        return rows * 1000.0 / millis;
+    }
+}
@@ -0,0 +1,8 @@
+package com.vorofpie.timetracker.export;
+
+public enum ExportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
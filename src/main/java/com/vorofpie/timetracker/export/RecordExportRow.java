@@ -0,0 +1,27 @@
+package com.vorofpie.timetracker.export;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat read-only row of the bulk record export, built by a criteria constructor expression so no entities are managed.
+ *
+ * @param id          the ID of the record
+ * @param username    the username of the record's user
+ * @param userEmail   the email of the record's user
+ * @param projectName the name of the project of the record's task
+ * @param taskName    the name of the record's task
+ * @param startTime   the start time of the record
+ * @param endTime     the end time of the record
+ * @param description the description of the record
+ */
+public record RecordExportRow(
+        Long id,
+        String username,
+        String userEmail,
+        String projectName,
+        String taskName,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String description
+) {
+}
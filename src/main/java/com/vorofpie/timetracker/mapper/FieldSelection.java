@@ -0,0 +1,113 @@
+package com.vorofpie.timetracker.mapper;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Properties of a response requested by the client, passed to mappers as mapping context.
+ *
+ * <p>Both lists are comma-separated property names of the response; nested properties are addressed with dotted
+ * paths, e.g. {@code fields=id,name,taskDetails.name} and {@code expand=taskDetails.recordDetails}.
+ * An absent list selects everything, so requests without parameters get complete responses.</p>
+ *
+ * <p>Nested collections are mapped only when they are expanded and, if fields are listed, when the collection itself
+ * or one of its properties is listed. Skipped collections are never read, so their lazy associations stay
+ * uninitialized.</p>
+ */
+public final class FieldSelection {
+
+    private static final FieldSelection ALL = new FieldSelection(null, null);
+
+    private final Set<String> fields; // Requested properties, null for all
+    private final Set<String> expand; // Requested nested collections, null for all
+
+    private FieldSelection(Set<String> fields, Set<String> expand) {
+        this.fields = fields;
+        this.expand = expand;
+    }
+
+    /**
+     * Returns the selection of all properties and collections.
+     *
+     * @return the full selection
+     */
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Parses a selection from request parameters.
+     *
+     * @param fields the comma-separated properties, or null for all
+     * @param expand the comma-separated nested collections, or null for all
+     * @return the selection
+     */
+    public static FieldSelection of(String fields, String expand) {
+        if (fields == null && expand == null) {
+            return ALL;
+        }
+        return new FieldSelection(parse(fields), parse(expand));
+    }
+
+    /**
+     * Checks whether a scalar property is requested.
+     *
+     * @param field the property name
+     * @return true if the property should be mapped
+     */
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * Checks whether a nested collection is requested.
+     *
+     * @param collection the collection property name
+     * @return true if the collection should be mapped
+     */
+    public boolean expands(String collection) {
+        if (expand != null && !expand.contains(collection)) {
+            return false;
+        }
+        return fields == null || fields.contains(collection) || hasPrefix(fields, collection);
+    }
+
+    /**
+     * Returns the selection for the items of a nested collection.
+     *
+     * @param collection the collection property name
+     * @return the selection relative to the collection items
+     */
+    public FieldSelection nested(String collection) {
+        if (this == ALL) {
+            return ALL;
+        }
+        Set<String> nestedFields = fields == null || !hasPrefix(fields, collection) ? null : strip(fields, collection);
+        Set<String> nestedExpand = expand == null ? null : strip(expand, collection);
+        return new FieldSelection(nestedFields, nestedExpand);
+    }
+
+    private static Set<String> parse(String value) {
+        if (value == null) {
+            return null;
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    private static boolean hasPrefix(Set<String> paths, String collection) {
+        String prefix = collection + ".";
+        return paths.stream().anyMatch(path -> path.startsWith(prefix));
+    }
+
+    private static Set<String> strip(Set<String> paths, String collection) {
+        String prefix = collection + ".";
+        return paths.stream()
+                .filter(path -> path.startsWith(prefix))
+                .map(path -> path.substring(prefix.length()))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+}
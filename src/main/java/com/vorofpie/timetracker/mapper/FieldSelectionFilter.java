@@ -0,0 +1,86 @@
+package com.vorofpie.timetracker.mapper;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Jackson filter leaving out the response properties a {@link FieldSelection} excludes.
+ *
+ * <p>Response DTOs carrying {@code @JsonFilter(FieldSelectionFilter.ID)} are serialized with all properties, nulls
+ * included, unless a request selected fields: only then is this filter applied, and it skips exactly the properties
+ * the mappers left out. Properties that are selected but null are still written. The position of a nested item is
+ * resolved from the enclosing filtered objects, e.g. a record inside {@code taskDetails} is checked against
+ * {@code selection.nested("taskDetails").nested("recordDetails")}.</p>
+ */
+public class FieldSelectionFilter extends SimpleBeanPropertyFilter {
+
+    public static final String ID = "fieldSelection";
+
+    private final FieldSelection selection;
+
+    public FieldSelectionFilter(FieldSelection selection) {
+        this.selection = selection;
+    }
+
+    /**
+     * Returns a filter provider writing every property, used when no fields are selected.
+     *
+     * @return the filter provider
+     */
+    public static SimpleFilterProvider serializeAllProvider() {
+        return new SimpleFilterProvider().addFilter(ID, SimpleBeanPropertyFilter.serializeAll());
+    }
+
+    /**
+     * Returns a filter provider writing only the selected properties.
+     *
+     * @param selection the requested selection
+     * @return the filter provider
+     */
+    public static SimpleFilterProvider provider(FieldSelection selection) {
+        return new SimpleFilterProvider().addFilter(ID, new FieldSelectionFilter(selection));
+    }
+
+    @Override
+    public void serializeAsField(Object pojo, JsonGenerator jgen, SerializerProvider provider, PropertyWriter writer)
+            throws Exception {
+        FieldSelection scope = selection;
+        for (String collection : enclosingCollections(jgen)) {
+            scope = scope.nested(collection);
+        }
+        boolean selected = writer.getType().isContainerType()
+                ? scope.expands(writer.getName())
+                : scope.includes(writer.getName());
+        if (selected) {
+            writer.serializeAsField(pojo, jgen, provider);
+        } else if (!jgen.canOmitFields()) {
+            writer.serializeAsOmittedField(pojo, jgen, provider);
+        }
+    }
+
+    /**
+     * Collects the names of the collections the current object is nested in, outermost first.
+     * Only properties of filtered DTOs count, so wrappers such as page responses are skipped.
+     *
+     * @param jgen the generator writing the current object
+     * @return the property path of the current object
+     */
+    private static Deque<String> enclosingCollections(JsonGenerator jgen) {
+        Deque<String> path = new ArrayDeque<>();
+        for (JsonStreamContext context = jgen.getOutputContext().getParent(); context != null; context = context.getParent()) {
+            Object value = context.getCurrentValue();
+            if (context.inObject() && value != null && value.getClass().isAnnotationPresent(JsonFilter.class)) {
+                path.addFirst(context.getCurrentName());
+            }
+        }
+        return path;
+    }
+}
@@ -1,17 +1,44 @@
 package com.vorofpie.timetracker.mapper;
 
 import com.vorofpie.timetracker.domain.Project;
+import com.vorofpie.timetracker.domain.TaskDetail;
+import com.vorofpie.timetracker.domain.User;
 import com.vorofpie.timetracker.dto.request.CreateProjectRequest;
 import com.vorofpie.timetracker.dto.request.UpdateProjectRequest;
 import com.vorofpie.timetracker.dto.response.ProjectResponse;
+import com.vorofpie.timetracker.dto.response.ProjectSummaryResponse;
+import com.vorofpie.timetracker.dto.response.TaskDetailResponse;
+import com.vorofpie.timetracker.dto.response.UserResponse;
+import com.vorofpie.timetracker.repository.ProjectRepository.ProjectSummary;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
-@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+import java.util.List;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = {TaskDetailMapper.class, UserMapper.class})
 public interface ProjectMapper {
 
-    ProjectResponse toProjectResponse(Project project);
+    @Named("allFields")
+    default ProjectResponse toProjectResponse(Project project) {
+        return toProjectResponse(project, FieldSelection.all());
+    }
+
+    @Mapping(target = "id", conditionExpression = "java(selection.includes(\"id\"))")
+    @Mapping(target = "name", conditionExpression = "java(selection.includes(\"name\"))")
+    @Mapping(target = "description", conditionExpression = "java(selection.includes(\"description\"))")
+    @Mapping(target = "taskDetails", expression = "java(selection.expands(\"taskDetails\") ? toTaskDetailResponses(project.getTaskDetails(), selection.nested(\"taskDetails\")) : null)")
+    @Mapping(target = "users", expression = "java(selection.expands(\"users\") ? toUserResponses(project.getUsers(), selection.nested(\"users\")) : null)")
+    ProjectResponse toProjectResponse(Project project, @Context FieldSelection selection);
+
+    List<TaskDetailResponse> toTaskDetailResponses(List<TaskDetail> taskDetails, @Context FieldSelection selection);
+
+    List<UserResponse> toUserResponses(List<User> users, @Context FieldSelection selection);
+
+    ProjectSummaryResponse toProjectSummaryResponse(ProjectSummary projectSummary);
 
     Project toProject(CreateProjectRequest createProjectRequest);
 
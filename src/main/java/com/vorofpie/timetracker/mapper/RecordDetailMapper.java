@@ -3,15 +3,31 @@ package com.vorofpie.timetracker.mapper;
 import com.vorofpie.timetracker.domain.RecordDetail;
 import com.vorofpie.timetracker.dto.request.RecordDetailRequest;
 import com.vorofpie.timetracker.dto.response.RecordDetailResponse;
+import com.vorofpie.timetracker.dto.response.RecordDetailSummaryResponse;
+import com.vorofpie.timetracker.repository.RecordDetailRepository.RecordDetailSummary;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface RecordDetailMapper {
 
-    RecordDetailResponse toRecordDetailResponse(RecordDetail recordDetail);
+    @Named("allFields")
+    default RecordDetailResponse toRecordDetailResponse(RecordDetail recordDetail) {
+        return toRecordDetailResponse(recordDetail, FieldSelection.all());
+    }
+
+    @Mapping(target = "id", conditionExpression = "java(selection.includes(\"id\"))")
+    @Mapping(target = "startTime", conditionExpression = "java(selection.includes(\"startTime\"))")
+    @Mapping(target = "endTime", conditionExpression = "java(selection.includes(\"endTime\"))")
+    @Mapping(target = "description", conditionExpression = "java(selection.includes(\"description\"))")
+    RecordDetailResponse toRecordDetailResponse(RecordDetail recordDetail, @Context FieldSelection selection);
+
+    @Mapping(target = "durationSeconds", expression = "java(java.time.Duration.between(recordDetailSummary.getStartTime(), recordDetailSummary.getEndTime()).toSeconds())")
+    RecordDetailSummaryResponse toRecordDetailSummaryResponse(RecordDetailSummary recordDetailSummary);
 
     RecordDetail toRecordDetail(RecordDetailRequest recordDetailRequest);
 
@@ -1,17 +1,39 @@
 package com.vorofpie.timetracker.mapper;
 
+import com.vorofpie.timetracker.domain.RecordDetail;
 import com.vorofpie.timetracker.domain.TaskDetail;
 import com.vorofpie.timetracker.dto.request.TaskDetailRequest;
+import com.vorofpie.timetracker.dto.response.RecordDetailResponse;
 import com.vorofpie.timetracker.dto.response.TaskDetailResponse;
+import com.vorofpie.timetracker.dto.response.TaskDetailSummaryResponse;
+import com.vorofpie.timetracker.repository.TaskDetailRepository.TaskDetailSummary;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
-@Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
+import java.util.List;
+
+@Mapper(componentModel = MappingConstants.ComponentModel.SPRING, uses = RecordDetailMapper.class)
 public interface TaskDetailMapper {
 
-    TaskDetailResponse toTaskDetailResponse(TaskDetail taskDetail);
+    @Named("allFields")
+    default TaskDetailResponse toTaskDetailResponse(TaskDetail taskDetail) {
+        return toTaskDetailResponse(taskDetail, FieldSelection.all());
+    }
+
+    @Mapping(target = "id", conditionExpression = "java(selection.includes(\"id\"))")
+    @Mapping(target = "name", conditionExpression = "java(selection.includes(\"name\"))")
+    @Mapping(target = "description", conditionExpression = "java(selection.includes(\"description\"))")
+    @Mapping(target = "status", conditionExpression = "java(selection.includes(\"status\"))")
+    @Mapping(target = "recordDetails", expression = "java(selection.expands(\"recordDetails\") ? toRecordDetailResponses(taskDetail.getRecordDetails(), selection.nested(\"recordDetails\")) : null)")
+    TaskDetailResponse toTaskDetailResponse(TaskDetail taskDetail, @Context FieldSelection selection);
+
+    List<RecordDetailResponse> toRecordDetailResponses(List<RecordDetail> recordDetails, @Context FieldSelection selection);
+
+    TaskDetailSummaryResponse toTaskDetailSummaryResponse(TaskDetailSummary taskDetailSummary);
 
     TaskDetail toTaskDetail(TaskDetailRequest taskDetailRequest);
 
@@ -3,18 +3,31 @@ package com.vorofpie.timetracker.mapper;
 import com.vorofpie.timetracker.domain.User;
 import com.vorofpie.timetracker.dto.request.UserRequest;
 import com.vorofpie.timetracker.dto.response.UserResponse;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 @Mapper(componentModel = MappingConstants.ComponentModel.SPRING)
 public interface UserMapper {
 
-    UserResponse toUserResponse(User user);
+    @Named("allFields")
+    default UserResponse toUserResponse(User user) {
+        return toUserResponse(user, FieldSelection.all());
+    }
 
+    @Mapping(target = "id", conditionExpression = "java(selection.includes(\"id\"))")
+    @Mapping(target = "username", conditionExpression = "java(selection.includes(\"username\"))")
+    @Mapping(target = "email", conditionExpression = "java(selection.includes(\"email\"))")
+    @Mapping(target = "birthDate", conditionExpression = "java(selection.includes(\"birthDate\"))")
+    UserResponse toUserResponse(User user, @Context FieldSelection selection);
+
+    @Mapping(target = "tokenGeneration", ignore = true)
     User toUser(UserRequest userRequest);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "tokenGeneration", ignore = true)
     void updateUserFromRequest(UserRequest userRequest, @MappingTarget User user);
 }
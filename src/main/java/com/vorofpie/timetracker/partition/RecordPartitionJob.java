@@ -0,0 +1,140 @@
+package com.vorofpie.timetracker.partition;
+
+import com.vorofpie.timetracker.report.ReportCache;
+import com.vorofpie.timetracker.service.props.RecordPartitionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.time.YearMonth;
+
+/**
+ * Scheduled job maintaining the monthly partitions of record_details.
+ * <p>
+ * Partitions are created ahead of time, so writes of current records never wait for a partition to be created. When
+ * a retention is configured, partitions of older months are detached and stay behind as standalone tables for
+ * archiving. Every operation waits for its locks only up to a lock timeout: if a table is busy the operation gives up
+ * quickly instead of queueing behind running queries and blocking everything after it, and is retried on the next run.
+ * <p>
+ * Partitions are detached with {@code DETACH PARTITION ... CONCURRENTLY}, which only takes a SHARE UPDATE EXCLUSIVE
+ * lock on record_details, so reads and writes of other months go on while it waits for running queries. It cannot
+ * run in a transaction, so it is issued on its own autocommit connection. If it is interrupted, the partition is left
+ * pending detach and is finalized on the next run.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "application.records.partitions", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RecordPartitionJob {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RecordPartitions recordPartitions;
+    private final RecordPartitionProperties properties;
+    private final ReportCache reportCache;
+    private final Counter createdPartitions;
+    private final Counter detachedPartitions;
+    private final Counter failedOperations;
+
+    public RecordPartitionJob(JdbcTemplate jdbcTemplate,
+                              RecordPartitions recordPartitions,
+                              RecordPartitionProperties properties,
+                              ReportCache reportCache,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recordPartitions = recordPartitions;
+        this.properties = properties;
+        this.reportCache = reportCache;
+        this.createdPartitions = Counter.builder("records.partitions.created")
+                .description("Monthly record partitions created ahead of time")
+                .register(meterRegistry);
+        this.detachedPartitions = Counter.builder("records.partitions.detached")
+                .description("Monthly record partitions detached after the retention")
+                .register(meterRegistry);
+        this.failedOperations = Counter.builder("records.partitions.failures")
+                .description("Partition operations that failed or timed out waiting for locks")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Makes sure upcoming partitions exist as soon as the application is up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    /**
+     * Creates missing partitions up to the configured number of months ahead, detaches expired ones and finalizes
+     * interrupted detaches.
+     */
+    @Scheduled(cron = "${application.records.partitions.cron:0 0 3 * * *}")
+    public void maintain() {
+        YearMonth current = YearMonth.now();
+        for (int offset = 0; offset <= properties.getMonthsAhead(); offset++) {
+            createPartition(current.plusMonths(offset));
+        }
+        YearMonth oldestKept = current.minusMonths(properties.getRetentionMonths());
+        for (RecordPartitions.Partition partition : recordPartitions.list()) {
+            if (partition.detachPending()) {
+                detachPartition(partition, "finalize");
+            } else if (properties.getRetentionMonths() > 0 && partition.month().isBefore(oldestKept)) {
+                detachPartition(partition, "concurrently");
+            }
+        }
+    }
+
+    /**
+     * Creates the partition of a month unless it exists.
+     *
+     * @param month the month of the partition
+     */
+    private void createPartition(YearMonth month) {
+        try {
+            if (recordPartitions.create(month)) {
+                createdPartitions.increment();
+                log.info("Created record partition for {}", month);
+            }
+        } catch (DataAccessException e) {
+            failedOperations.increment();
+            log.warn("Could not create record partition for {}, retrying on the next run: {}", month, e.getMessage());
+        }
+    }
+
+    /**
+     * Detaches a partition from record_details outside a transaction. The table and its rows are kept.
+     *
+     * @param partition the partition to detach
+     * @param mode      "concurrently" to start the detach, "finalize" to complete an interrupted one
+     */
+    private void detachPartition(RecordPartitions.Partition partition, String mode) {
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("set lock_timeout = " + properties.getLockTimeout().toMillis());
+                    try {
+                        statement.execute("alter table record_details detach partition " + partition.name() + " " + mode);
+                    } finally {
+                        statement.execute("reset lock_timeout");
+                    }
+                }
+                return null;
+            });
+            recordPartitions.detached(partition.month());
+            detachedPartitions.increment();
+            // Records of the detached month no longer count in reports
+            reportCache.invalidate();
+            log.info("Detached record partition {}", partition.name());
+        } catch (DataAccessException e) {
+            failedOperations.increment();
+            log.warn("Could not detach record partition {}, retrying on the next run: {}", partition.name(), e.getMessage());
+        }
+    }
+}
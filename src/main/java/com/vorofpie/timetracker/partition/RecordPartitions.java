@@ -0,0 +1,155 @@
+package com.vorofpie.timetracker.partition;
+
+import com.vorofpie.timetracker.service.props.RecordPartitionProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Catalog of the monthly partitions of record_details.
+ * <p>
+ * record_details has no default partition, so a record can only be stored once the partition of its month exists.
+ * {@link RecordPartitionJob} creates partitions ahead of time; writes of records in other months, such as time
+ * entered for long past months, create the missing partitions through {@link #ensureMonthsOf}. Months known to be
+ * attached are remembered, so only the first write of a month reaches the catalog.
+ */
+@Component
+public class RecordPartitions {
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("record_details_p(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String LIST_PARTITIONS_SQL = """
+            select c.relname, i.inhdetachpending
+            from pg_inherits i
+            join pg_class c on c.oid = i.inhrelid
+            where i.inhparent = 'record_details'::regclass
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RecordPartitionProperties properties;
+    private final Set<YearMonth> attached = ConcurrentHashMap.newKeySet();
+
+    public RecordPartitions(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            RecordPartitionProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Runs beside the transaction of the write, which must not hold the catalog locks of the new partition
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+    }
+
+    /**
+     * A partition attached to record_details.
+     *
+     * @param name          the name of the partition table
+     * @param month         the month held by the partition
+     * @param detachPending whether a concurrent detach of the partition was interrupted and must be finalized
+     */
+    public record Partition(String name, YearMonth month, boolean detachPending) {
+    }
+
+    /**
+     * Makes sure the partitions holding the given start times exist.
+     *
+     * @param startTimes the start times of the records about to be written
+     */
+    public void ensureMonthsOf(Collection<LocalDateTime> startTimes) {
+        startTimes.stream()
+                .map(YearMonth::from)
+                .distinct()
+                .filter(month -> !attached.contains(month))
+                .forEach(this::create);
+    }
+
+    /**
+     * Makes sure the partition holding the given start time exists.
+     *
+     * @param startTime the start time of the record about to be written
+     */
+    public void ensureMonthOf(LocalDateTime startTime) {
+        ensureMonthsOf(List.of(startTime));
+    }
+
+    /**
+     * Creates the partition of a month in its own transaction unless it exists.
+     *
+     * @param month the month of the partition
+     * @return true if the partition was created, false if a table of that name existed
+     */
+    public boolean create(YearMonth month) {
+        Boolean created = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("set local lock_timeout = " + properties.getLockTimeout().toMillis());
+            return jdbcTemplate.queryForObject("select create_record_details_partition(?)", Boolean.class, Date.valueOf(month.atDay(1)));
+        });
+        attached.add(month);
+        return Boolean.TRUE.equals(created);
+    }
+
+    /**
+     * Lists the partitions attached to record_details, including those whose detach is pending.
+     *
+     * @return the partitions named by month, in ascending order of month
+     */
+    public List<Partition> list() {
+        return jdbcTemplate.query(LIST_PARTITIONS_SQL, (rs, rowNum) -> {
+                    YearMonth month = monthOf(rs.getString(1));
+                    return month == null ? null : new Partition(rs.getString(1), month, rs.getBoolean(2));
+                }).stream()
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(Partition::month))
+                .toList();
+    }
+
+    /**
+     * Lists the months whose partition is attached to record_details and not being detached.
+     *
+     * @return the months in ascending order
+     */
+    public List<YearMonth> attachedMonths() {
+        return list().stream()
+                .filter(partition -> !partition.detachPending())
+                .map(Partition::month)
+                .toList();
+    }
+
+    /**
+     * Forgets that a month is attached, after its partition was detached.
+     *
+     * @param month the month of the detached partition
+     */
+    void detached(YearMonth month) {
+        attached.remove(month);
+    }
+
+    /**
+     * Parses the month of a partition from its name.
+     *
+     * @param partition the name of the partition table
+     * @return the month, or null for tables not named by month
+     */
+    private static YearMonth monthOf(String partition) {
+        Matcher matcher = PARTITION_NAME.matcher(partition);
+        if (!matcher.matches()) {
+            return null;
+        }
+        return YearMonth.parse(matcher.group(1) + "_" + matcher.group(2), PARTITION_SUFFIX);
+    }
+}
@@ -0,0 +1,86 @@
+package com.vorofpie.timetracker.report;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vorofpie.timetracker.dto.request.ReportFilter;
+import com.vorofpie.timetracker.dto.response.ReportResponse;
+import com.vorofpie.timetracker.service.props.ReportProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache of computed reports keyed by filter and viewer.
+ * <p>
+ * Any change of records, tasks, projects or memberships invalidates all reports, because a single record can
+ * contribute to any of them. Invalidation happens again after the changing transaction commits, so a report computed
+ * concurrently from the old data is not kept. Reports computed while an invalidation happened are returned but not
+ * cached. The TTL only bounds staleness from changes made outside the application.
+ */
+@Component
+public class ReportCache {
+
+    private static final String CACHE_NAME = "reports";
+
+    private final Cache<ReportKey, ReportResponse> cache;
+    private final AtomicLong generation = new AtomicLong(); // Bumped by every invalidation
+
+    public ReportCache(ReportProperties properties, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCacheMaxSize())
+                .expireAfterWrite(properties.getCacheTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached report or computes it.
+     *
+     * @param filter   the normalized report filter
+     * @param viewerId the ID of the user the report is restricted to, or null for admins
+     * @param loader   the computation of the report
+     * @return the report
+     */
+    public ReportResponse get(ReportFilter filter, Long viewerId, Supplier<ReportResponse> loader) {
+        ReportKey key = new ReportKey(filter, viewerId);
+        ReportResponse cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long startGeneration = generation.get();
+        ReportResponse report = loader.get();
+        if (generation.get() == startGeneration) {
+            cache.put(key, report);
+        }
+        return report;
+    }
+
+    /**
+     * Drops all cached reports now and, inside a transaction, once more after it commits.
+     */
+    public void invalidate() {
+        invalidateNow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow();
+                }
+            });
+        }
+    }
+
+    private void invalidateNow() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private record ReportKey(ReportFilter filter, Long viewerId) {
+    }
+}
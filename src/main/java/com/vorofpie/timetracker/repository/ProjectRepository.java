@@ -1,12 +1,67 @@
 package com.vorofpie.timetracker.repository;
 
 import com.vorofpie.timetracker.domain.Project;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-    List<Project> findByUsers_Id(Long userId);
+    List<Project> findByIdGreaterThanOrderByIdAsc(Long cursor, Limit limit);
+
+    List<Project> findByIdInAndIdGreaterThanOrderByIdAsc(Collection<Long> ids, Long cursor, Limit limit);
+
+    List<Project> findByUsers_IdAndIdGreaterThanOrderByIdAsc(Long userId, Long cursor, Limit limit);
+
+    boolean existsByIdAndUsers_Id(Long id, Long userId);
+
+    /**
+     * Returns a page of project summaries with counts and tracked time aggregated by the database.
+     *
+     * @param cursor the ID after which the page starts
+     * @param userId the member whose projects are returned, or null for all projects
+     * @param limit  the maximum number of rows
+     * @return the project summaries in ascending ID order
+     */
+    @Query(value = """
+            select p.id as "id", p.name as "name", p.description as "description",
+                   (select count(*) from task_details t where t.project_id = p.id) as "taskCount",
+                   (select count(*) from project_users pu where pu.project_id = p.id) as "memberCount",
+                   rs.record_count as "recordCount",
+                   rs.tracked_seconds as "trackedSeconds"
+            from projects p
+            cross join lateral (
+                select count(r.id) as record_count,
+                       coalesce(cast(sum(extract(epoch from r.end_time - r.start_time)) as bigint), 0) as tracked_seconds
+                from task_details t
+                join record_details r on r.task_id = t.id
+                where t.project_id = p.id
+            ) rs
+            where p.id > :cursor
+              and (cast(:userId as bigint) is null
+                   or exists (select 1 from project_users pu where pu.project_id = p.id and pu.user_id = cast(:userId as bigint)))
+            order by p.id
+            limit :limit
+            """, nativeQuery = true)
+    List<ProjectSummary> findSummaries(Long cursor, Long userId, int limit);
+
+    interface ProjectSummary {
+        Long getId();
+
+        String getName();
+
+        String getDescription();
+
+        Long getTaskCount();
+
+        Long getMemberCount();
+
+        Long getRecordCount();
+
+        Long getTrackedSeconds();
+    }
 }
\ No newline at end of file
@@ -1,12 +1,48 @@
 package com.vorofpie.timetracker.repository;
 
 import com.vorofpie.timetracker.domain.RecordDetail;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface RecordDetailRepository extends JpaRepository<RecordDetail, Long> {
-    List<RecordDetail> findByTask_Project_Users_Id(Long id);
-}
\ No newline at end of file
+public interface RecordDetailRepository extends JpaRepository<RecordDetail, Long>, JpaSpecificationExecutor<RecordDetail>,
+        RecordExportRowRepository {
+    List<RecordDetail> findByIdGreaterThanOrderByIdAsc(Long cursor, Limit limit);
+
+    List<RecordDetail> findByTask_Project_IdInAndIdGreaterThanOrderByIdAsc(Collection<Long> projectIds, Long cursor, Limit limit);
+
+    List<RecordDetail> findByTask_Project_Users_IdAndIdGreaterThanOrderByIdAsc(Long userId, Long cursor, Limit limit);
+
+    @Query("select r.task.project.id from RecordDetail r where r.id = :id")
+    Optional<Long> findProjectIdById(Long id);
+
+    @Query("""
+            select r.id as id, r.task.id as taskId, r.user.id as userId, r.startTime as startTime, r.endTime as endTime
+            from RecordDetail r
+            where r.id > :cursor
+              and (:userId is null
+                   or exists (select 1 from Project p join p.users u where p.id = r.task.project.id and u.id = :userId))
+            order by r.id
+            """)
+    List<RecordDetailSummary> findSummaries(Long cursor, Long userId, Limit limit);
+
+    interface RecordDetailSummary {
+        Long getId();
+
+        Long getTaskId();
+
+        Long getUserId();
+
+        LocalDateTime getStartTime();
+
+        LocalDateTime getEndTime();
+    }
+}
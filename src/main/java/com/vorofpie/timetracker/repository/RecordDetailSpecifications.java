@@ -0,0 +1,99 @@
+package com.vorofpie.timetracker.repository;
+
+import com.vorofpie.timetracker.domain.Project;
+import com.vorofpie.timetracker.domain.RecordDetail;
+import com.vorofpie.timetracker.domain.User;
+import com.vorofpie.timetracker.dto.request.RecordSearchFilter;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Query predicates over record details. Only the predicates of the filters actually given are added, so each search
+ * reaches the database as a plain conjunction the planner can match against the record indexes.
+ */
+public final class RecordDetailSpecifications {
+
+    private RecordDetailSpecifications() {
+    }
+
+    /**
+     * Combines the predicates of all filters that are set.
+     *
+     * @param filter the search filters
+     * @return the conjunction of the given filters, matching everything if none is set
+     */
+    public static Specification<RecordDetail> matching(RecordSearchFilter filter) {
+        Specification<RecordDetail> specification = Specification.where(null);
+        if (filter.userId() != null) {
+            specification = specification.and(hasUser(filter.userId()));
+        }
+        if (filter.taskId() != null) {
+            specification = specification.and(hasTask(filter.taskId()));
+        }
+        if (filter.projectId() != null) {
+            specification = specification.and(inProject(filter.projectId()));
+        }
+        if (filter.from() != null) {
+            specification = specification.and(startsAtOrAfter(filter.from()));
+        }
+        if (filter.to() != null) {
+            specification = specification.and(startsBefore(filter.to()));
+        }
+        return specification;
+    }
+
+    public static Specification<RecordDetail> hasUser(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("user").get("id"), userId);
+    }
+
+    public static Specification<RecordDetail> hasTask(Long taskId) {
+        return (root, query, cb) -> cb.equal(root.get("task").get("id"), taskId);
+    }
+
+    public static Specification<RecordDetail> inProject(Long projectId) {
+        return (root, query, cb) -> cb.equal(projectId(root), projectId);
+    }
+
+    public static Specification<RecordDetail> inProjects(Collection<Long> projectIds) {
+        return (root, query, cb) -> projectId(root).in(projectIds);
+    }
+
+    public static Specification<RecordDetail> startsAtOrAfter(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("startTime"), from);
+    }
+
+    public static Specification<RecordDetail> startsBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("startTime"), to);
+    }
+
+    public static Specification<RecordDetail> idGreaterThan(Long cursor) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), cursor);
+    }
+
+    /**
+     * Restricts records to projects the user is a member of.
+     *
+     * @param userId the ID of the member
+     * @return the membership predicate, checked with an exists subquery on the project members
+     */
+    public static Specification<RecordDetail> visibleTo(Long userId) {
+        return (root, query, cb) -> {
+            Subquery<Long> membership = query.subquery(Long.class);
+            Root<Project> project = membership.from(Project.class);
+            Join<Project, User> member = project.join("users");
+            membership.select(project.get("id"))
+                    .where(cb.equal(project.get("id"), projectId(root)), cb.equal(member.get("id"), userId));
+            return cb.exists(membership);
+        };
+    }
+
+    private static Path<Long> projectId(Root<RecordDetail> root) {
+        return root.get("task").get("project").get("id");
+    }
+}
@@ -0,0 +1,20 @@
+package com.vorofpie.timetracker.repository;
+
+import com.vorofpie.timetracker.dto.request.RecordExportFilter;
+import com.vorofpie.timetracker.export.RecordExportRow;
+
+import java.util.stream.Stream;
+
+/**
+ * Query fragment of {@link RecordDetailRepository} streaming the rows of the bulk record export.
+ */
+public interface RecordExportRowRepository {
+
+    /**
+     * Streams the export rows of the records matching the filter, in ID order. Must be consumed inside a transaction.
+     *
+     * @param filter the export filters, all optional
+     * @return the stream of rows, to be closed by the caller
+     */
+    Stream<RecordExportRow> streamExportRows(RecordExportFilter filter);
+}
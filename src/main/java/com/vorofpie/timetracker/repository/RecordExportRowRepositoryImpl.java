@@ -0,0 +1,70 @@
+package com.vorofpie.timetracker.repository;
+
+import com.vorofpie.timetracker.domain.Project;
+import com.vorofpie.timetracker.domain.RecordDetail;
+import com.vorofpie.timetracker.domain.TaskDetail;
+import com.vorofpie.timetracker.domain.User;
+import com.vorofpie.timetracker.dto.request.RecordExportFilter;
+import com.vorofpie.timetracker.export.RecordExportRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria implementation of {@link RecordExportRowRepository}.
+ *
+ * <p>Like {@link RecordDetailSpecifications}, only the filters actually given become predicates. A time range thus
+ * reaches the database as plain start_time comparisons, which PostgreSQL uses to prune the monthly partitions of
+ * record_details; {@code :from is null or ...} conditions would make it scan every partition.</p>
+ */
+public class RecordExportRowRepositoryImpl implements RecordExportRowRepository {
+
+    private static final int FETCH_SIZE = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<RecordExportRow> streamExportRows(RecordExportFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RecordExportRow> query = cb.createQuery(RecordExportRow.class);
+        Root<RecordDetail> record = query.from(RecordDetail.class);
+        Join<RecordDetail, TaskDetail> task = record.join("task");
+        Join<TaskDetail, Project> project = task.join("project");
+        Join<RecordDetail, User> user = record.join("user");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.userId() != null) {
+            predicates.add(cb.equal(user.get("id"), filter.userId()));
+        }
+        if (filter.projectId() != null) {
+            predicates.add(cb.equal(project.get("id"), filter.projectId()));
+        }
+        if (filter.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(record.get("startTime"), filter.from()));
+        }
+        if (filter.to() != null) {
+            predicates.add(cb.lessThan(record.get("startTime"), filter.to()));
+        }
+
+        query.select(cb.construct(RecordExportRow.class,
+                        record.get("id"), user.get("username"), user.get("email"), project.get("name"),
+                        task.get("name"), record.get("startTime"), record.get("endTime"), record.get("description")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(record.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+}
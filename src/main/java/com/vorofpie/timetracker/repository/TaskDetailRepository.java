@@ -1,13 +1,74 @@
 package com.vorofpie.timetracker.repository;
 
 import com.vorofpie.timetracker.domain.TaskDetail;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 
 public interface TaskDetailRepository extends JpaRepository<TaskDetail, Long> {
-    List<TaskDetail> findByProject_Users_Id(Long id);
+    List<TaskDetail> findByIdGreaterThanOrderByIdAsc(Long cursor, Limit limit);
+
+    List<TaskDetail> findByProject_IdInAndIdGreaterThanOrderByIdAsc(Collection<Long> projectIds, Long cursor, Limit limit);
+
+    List<TaskDetail> findByProject_Users_IdAndIdGreaterThanOrderByIdAsc(Long userId, Long cursor, Limit limit);
+
+    @Query("select t.project.id from TaskDetail t where t.id = :id")
+    Optional<Long> findProjectIdById(Long id);
+
+    @Query("select t.id as id, t.project.id as projectId from TaskDetail t where t.id in :ids")
+    List<TaskProjectId> findProjectIdsByIdIn(Collection<Long> ids);
+
+    /**
+     * Returns a page of task summaries with record counts and tracked time aggregated by the database.
+     *
+     * @param cursor the ID after which the page starts
+     * @param userId the member whose projects' tasks are returned, or null for all tasks
+     * @param limit  the maximum number of rows
+     * @return the task summaries in ascending ID order
+     */
+    @Query(value = """
+            select t.id as "id", t.project_id as "projectId", t.name as "name", t.status as "status",
+                   rs.record_count as "recordCount",
+                   rs.tracked_seconds as "trackedSeconds"
+            from task_details t
+            cross join lateral (
+                select count(r.id) as record_count,
+                       coalesce(cast(sum(extract(epoch from r.end_time - r.start_time)) as bigint), 0) as tracked_seconds
+                from record_details r
+                where r.task_id = t.id
+            ) rs
+            where t.id > :cursor
+              and (cast(:userId as bigint) is null
+                   or exists (select 1 from project_users pu where pu.project_id = t.project_id and pu.user_id = cast(:userId as bigint)))
+            order by t.id
+            limit :limit
+            """, nativeQuery = true)
+    List<TaskDetailSummary> findSummaries(Long cursor, Long userId, int limit);
+
+    interface TaskProjectId {
+        Long getId();
+
+        Long getProjectId();
+    }
+
+    interface TaskDetailSummary {
+        Long getId();
+
+        Long getProjectId();
+
+        String getName();
+
+        String getStatus();
+
+        Long getRecordCount();
+
+        Long getTrackedSeconds();
+    }
 }
\ No newline at end of file
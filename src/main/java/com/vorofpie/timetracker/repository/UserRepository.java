@@ -1,9 +1,13 @@
 package com.vorofpie.timetracker.repository;
 
 import com.vorofpie.timetracker.domain.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,6 +16,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmail(String email);
 
+    List<User> findByIdGreaterThanOrderByIdAsc(Long cursor, Limit limit);
+
     Optional<User> findByEmail(String email);
 
+    @Query("select u.id as id, u.email as email from User u where u.email in :emails")
+    List<UserIdByEmail> findIdsByEmailIn(Collection<String> emails);
+
+    interface UserIdByEmail {
+        Long getId();
+
+        String getEmail();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.vorofpie.timetracker.rollup;
+
+import com.vorofpie.timetracker.partition.RecordPartitions;
+import com.vorofpie.timetracker.service.props.RecordRollupProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Scheduled job recomputing record_daily_rollups from record_details. Disabled unless
+ * {@code application.records.rollups.rebuild-enabled} is set.
+ * <p>
+ * The rollups are maintained incrementally by the record services, so the rebuild only repairs drift from changes
+ * made outside the application, such as manual SQL or restored backups. It works month by month, one transaction
+ * per month of an attached record partition. Each transaction holds an exclusive lock on the rollup table, so record
+ * writes wait for that month's rebuild instead of applying their deltas to rows that are about to be replaced, and
+ * gives up after the lock timeout if the table is busy. Readers keep seeing the previous totals until the commit.
+ * Rollups of days outside the attached partitions, such as months detached for archiving, are left untouched.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "application.records.rollups", name = "rebuild-enabled", havingValue = "true")
+public class RecordRollupRebuildJob {
+
+    private static final String DELETE_RANGE_SQL = "delete from record_daily_rollups where day >= ? and day < ?";
+
+    // Records overlapping the range, including those started in the previous month, counted for days in the range only
+    private static final String REBUILD_RANGE_SQL = """
+            insert into record_daily_rollups (user_id, project_id, day, tracked_seconds)
+            select user_id, project_id, day, tracked_seconds
+            from (""" + RecordRollupUpdater.DAILY_SECONDS_SQL + """
+             and r.start_time < ?
+             and r.end_time > ?
+            group by r.user_id, t.project_id, d.day::date) s
+            where day >= ? and day < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RecordPartitions recordPartitions;
+    private final TransactionTemplate transactionTemplate;
+    private final RecordRollupProperties properties;
+    private final Counter rebuilds;
+    private final Counter failures;
+
+    public RecordRollupRebuildJob(JdbcTemplate jdbcTemplate,
+                                  RecordPartitions recordPartitions,
+                                  PlatformTransactionManager transactionManager,
+                                  RecordRollupProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recordPartitions = recordPartitions;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.rebuilds = Counter.builder("records.rollups.rebuilds")
+                .description("Completed rebuilds of the daily record rollups")
+                .register(meterRegistry);
+        this.failures = Counter.builder("records.rollups.rebuild.failures")
+                .description("Months of the daily record rollups whose rebuild failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Replaces the rollups of every attached month up to the current one with totals computed from the records.
+     */
+    @Scheduled(cron = "${application.records.rollups.rebuild-cron:0 0 4 * * SUN}")
+    public void rebuild() {
+        YearMonth current = YearMonth.now();
+        long rows = 0;
+        int failed = 0;
+        for (YearMonth month : recordPartitions.attachedMonths()) {
+            if (month.isAfter(current)) {
+                break;
+            }
+            try {
+                rows += rebuildMonth(month);
+            } catch (DataAccessException e) {
+                failures.increment();
+                failed++;
+                log.warn("Could not rebuild daily record rollups of {}, retrying on the next run: {}", month, e.getMessage());
+            }
+        }
+        if (failed == 0) {
+            rebuilds.increment();
+        }
+        log.info("Rebuilt {} daily record rollups, {} months failed", rows, failed);
+    }
+
+    /**
+     * Replaces the rollups of one month in a single transaction.
+     *
+     * @param month the month to rebuild
+     * @return the number of rollup rows written
+     */
+    private int rebuildMonth(YearMonth month) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        Integer rows = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("set local lock_timeout = " + properties.getRebuildLockTimeout().toMillis());
+            jdbcTemplate.execute("lock table record_daily_rollups in exclusive mode");
+            jdbcTemplate.update(DELETE_RANGE_SQL, Date.valueOf(from), Date.valueOf(to));
+            return jdbcTemplate.update(REBUILD_RANGE_SQL,
+                    Timestamp.valueOf(to.atStartOfDay()), Timestamp.valueOf(from.atStartOfDay()),
+                    Date.valueOf(from), Date.valueOf(to));
+        });
+        return rows == null ? 0 : rows;
+    }
+}
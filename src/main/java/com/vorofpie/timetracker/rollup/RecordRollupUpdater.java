@@ -0,0 +1,172 @@
+package com.vorofpie.timetracker.rollup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Keeps record_daily_rollups in step with record_details.
+ * <p>
+ * Every change of a record is turned into signed per-day deltas of tracked seconds: the new interval adds, the old one
+ * subtracts. Intervals crossing midnight are split at each midnight, so every day gets only the part of the record it
+ * covers. Deltas are applied with upserts in the transaction that changes the records, so the rollups never drift from
+ * the records they summarize. Rows are always locked in (user, day, project) order, so concurrent writers touching the
+ * same days cannot deadlock.
+ */
+@Component
+@RequiredArgsConstructor
+public class RecordRollupUpdater {
+
+    private static final String UPSERT_SQL = """
+            insert into record_daily_rollups (user_id, project_id, day, tracked_seconds)
+            values (?, ?, ?, ?)
+            on conflict (user_id, day, project_id)
+            do update set tracked_seconds = record_daily_rollups.tracked_seconds + excluded.tracked_seconds
+            """;
+
+    /**
+     * Per-day seconds of records, split at midnights. Shared with the rebuild job and the v13 backfill.
+     */
+    static final String DAILY_SECONDS_SQL = """
+            select r.user_id,
+                   t.project_id,
+                   d.day::date as day,
+                   sum(floor(extract(epoch from least(r.end_time, d.day + interval '1 day') - greatest(r.start_time, d.day))))::bigint as tracked_seconds
+            from record_details r
+                     join task_details t on t.id = r.task_id
+                     cross join lateral generate_series(date_trunc('day', r.start_time),
+                                                        r.end_time - interval '1 microsecond',
+                                                        interval '1 day') as d(day)
+            where r.end_time > r.start_time
+            """;
+
+    private static final String MOVE_TASK_SQL = """
+            insert into record_daily_rollups (user_id, project_id, day, tracked_seconds)
+            select user_id, ?, day, ? * tracked_seconds
+            from (""" + DAILY_SECONDS_SQL + """
+             and r.task_id = ?
+            group by r.user_id, t.project_id, d.day::date) s
+            order by user_id, day
+            on conflict (user_id, day, project_id)
+            do update set tracked_seconds = record_daily_rollups.tracked_seconds + excluded.tracked_seconds
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds a created record to the rollups.
+     *
+     * @param userId    the ID of the record's user
+     * @param projectId the ID of the project of the record's task
+     * @param start     the start of the record
+     * @param end       the end of the record
+     */
+    public void add(Long userId, Long projectId, LocalDateTime start, LocalDateTime end) {
+        apply(new Deltas().add(userId, projectId, start, end));
+    }
+
+    /**
+     * Removes a deleted record from the rollups.
+     *
+     * @param userId    the ID of the record's user
+     * @param projectId the ID of the project of the record's task
+     * @param start     the start of the record
+     * @param end       the end of the record
+     */
+    public void subtract(Long userId, Long projectId, LocalDateTime start, LocalDateTime end) {
+        apply(new Deltas().subtract(userId, projectId, start, end));
+    }
+
+    /**
+     * Moves the rollups of all records of a task from one project to another.
+     * Must be called in the transaction that changes the task's project.
+     *
+     * @param taskId        the ID of the moved task
+     * @param fromProjectId the ID of the previous project
+     * @param toProjectId   the ID of the new project
+     */
+    public void moveTask(Long taskId, Long fromProjectId, Long toProjectId) {
+        jdbcTemplate.update(MOVE_TASK_SQL, fromProjectId, -1, taskId);
+        jdbcTemplate.update(MOVE_TASK_SQL, toProjectId, 1, taskId);
+    }
+
+    /**
+     * Removes the rollups of all records of a task.
+     * Must be called in the transaction that deletes the task, before its records are deleted.
+     *
+     * @param taskId    the ID of the deleted task
+     * @param projectId the ID of the task's project
+     */
+    public void removeTask(Long taskId, Long projectId) {
+        jdbcTemplate.update(MOVE_TASK_SQL, projectId, -1, taskId);
+    }
+
+    /**
+     * Applies accumulated deltas in one JDBC batch. Days whose changes cancel out are skipped.
+     *
+     * @param deltas the deltas to apply
+     */
+    public void apply(Deltas deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.seconds.size());
+        deltas.seconds.forEach((key, seconds) -> {
+            if (seconds != 0) {
+                rows.add(new Object[]{key.userId(), key.projectId(), Date.valueOf(key.day()), seconds});
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        }
+    }
+
+    /**
+     * Signed tracked seconds per user, project and day, accumulated before being written.
+     * Combining the old and new interval of an updated record leaves only the days that actually changed.
+     */
+    public static final class Deltas {
+
+        private static final Comparator<Key> LOCK_ORDER = Comparator.comparing(Key::userId)
+                .thenComparing(Key::day)
+                .thenComparing(Key::projectId);
+
+        private final Map<Key, Long> seconds = new TreeMap<>(LOCK_ORDER);
+
+        public Deltas add(Long userId, Long projectId, LocalDateTime start, LocalDateTime end) {
+            accumulate(userId, projectId, start, end, 1);
+            return this;
+        }
+
+        public Deltas subtract(Long userId, Long projectId, LocalDateTime start, LocalDateTime end) {
+            accumulate(userId, projectId, start, end, -1);
+            return this;
+        }
+
+        private void accumulate(Long userId, Long projectId, LocalDateTime start, LocalDateTime end, int sign) {
+            LocalDateTime from = start;
+            while (from.isBefore(end)) {
+                LocalDate day = from.toLocalDate();
+                LocalDateTime nextMidnight = day.plusDays(1).atStartOfDay();
+                LocalDateTime to = end.isBefore(nextMidnight) ? end : nextMidnight;
+                long daySeconds = Duration.between(from, to).getSeconds();
+                seconds.merge(new Key(userId, projectId, day), sign * daySeconds, Long::sum);
+                from = to;
+            }
+        }
+
+        long secondsOf(Long userId, Long projectId, LocalDate day) {
+            return seconds.getOrDefault(new Key(userId, projectId, day), 0L);
+        }
+    }
+
+    private record Key(Long userId, Long projectId, LocalDate day) {
+    }
+}
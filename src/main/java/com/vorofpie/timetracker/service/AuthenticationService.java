@@ -12,7 +12,7 @@ import java.io.IOException;
 public interface AuthenticationService {
     AuthenticationResponse register(UserRequest request);
 
-    AuthenticationResponse authenticate(AuthenticationRequest request);
+    AuthenticationResponse authenticate(AuthenticationRequest request, String clientAddress);
 
     void refreshToken(HttpServletRequest request, HttpServletResponse response) throws IOException;
 }
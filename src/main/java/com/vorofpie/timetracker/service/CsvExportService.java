@@ -0,0 +1,16 @@
+package com.vorofpie.timetracker.service;
+
+import com.vorofpie.timetracker.dto.request.RecordExportFilter;
+import com.vorofpie.timetracker.dto.response.ExportJobResponse;
+import org.springframework.core.io.Resource;
+
+import java.util.UUID;
+
+public interface CsvExportService {
+
+    ExportJobResponse startRecordExport(RecordExportFilter filter);
+
+    ExportJobResponse getExportJob(UUID id);
+
+    Resource getExportFile(UUID id);
+}
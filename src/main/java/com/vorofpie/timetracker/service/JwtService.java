@@ -1,5 +1,6 @@
 package com.vorofpie.timetracker.service;
 
+import com.vorofpie.timetracker.token.ParsedToken;
 import io.jsonwebtoken.Claims;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -8,6 +9,16 @@ import java.util.function.Function;
 
 public interface JwtService {
 
+    String GENERATION_CLAIM = "gen";
+
+    String TYPE_CLAIM = "typ";
+
+    String ACCESS_TOKEN_TYPE = "access";
+
+    String REFRESH_TOKEN_TYPE = "refresh";
+
+    ParsedToken parseToken(String token);
+
     String extractUserEmail(String token);
 
     <T> T extractClaim(String token, Function<Claims, T> claimsResolver);
@@ -19,4 +30,6 @@ public interface JwtService {
     String generateRefreshToken(UserDetails userDetails);
 
     boolean isTokenValid(String token, UserDetails userDetails);
+
+    boolean isTokenValid(ParsedToken token, UserDetails userDetails);
 }
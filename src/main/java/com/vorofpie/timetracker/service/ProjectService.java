@@ -2,15 +2,18 @@ package com.vorofpie.timetracker.service;
 
 import com.vorofpie.timetracker.dto.request.CreateProjectRequest;
 import com.vorofpie.timetracker.dto.request.UpdateProjectRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
 import com.vorofpie.timetracker.dto.response.ProjectResponse;
-
-import java.util.List;
+import com.vorofpie.timetracker.dto.response.ProjectSummaryResponse;
+import com.vorofpie.timetracker.mapper.FieldSelection;
 
 public interface ProjectService {
 
-    List<ProjectResponse> getAllProjects();
+    CursorPageResponse<ProjectResponse> getAllProjects(Long cursor, Integer limit, FieldSelection selection);
+
+    CursorPageResponse<ProjectSummaryResponse> getProjectSummaries(Long cursor, Integer limit);
 
-    ProjectResponse getProjectById(Long id);
+    ProjectResponse getProjectById(Long id, FieldSelection selection);
 
     ProjectResponse createProject(CreateProjectRequest createProjectRequest);
 
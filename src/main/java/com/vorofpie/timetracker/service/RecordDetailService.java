@@ -1,18 +1,27 @@
 package com.vorofpie.timetracker.service;
 
+import com.vorofpie.timetracker.dto.request.RecordBatchRequest;
 import com.vorofpie.timetracker.dto.request.RecordDetailRequest;
+import com.vorofpie.timetracker.dto.request.RecordSearchFilter;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
+import com.vorofpie.timetracker.dto.response.RecordBatchResponse;
 import com.vorofpie.timetracker.dto.response.RecordDetailResponse;
-
-import java.util.List;
+import com.vorofpie.timetracker.dto.response.RecordDetailSummaryResponse;
 
 public interface RecordDetailService {
 
-    List<RecordDetailResponse> getAllRecordDetails();
+    CursorPageResponse<RecordDetailResponse> getAllRecordDetails(Long cursor, Integer limit);
+
+    CursorPageResponse<RecordDetailSummaryResponse> getRecordDetailSummaries(Long cursor, Integer limit);
+
+    CursorPageResponse<RecordDetailResponse> searchRecordDetails(RecordSearchFilter filter, Long cursor, Integer limit);
 
     RecordDetailResponse getRecordDetailById(Long id);
 
     RecordDetailResponse createRecordDetail(RecordDetailRequest recordDetailRequest);
 
+    RecordBatchResponse createRecordDetails(RecordBatchRequest recordBatchRequest);
+
     RecordDetailResponse updateRecordDetail(Long id, RecordDetailRequest recordDetailRequest);
 
     void deleteRecordDetail(Long id);
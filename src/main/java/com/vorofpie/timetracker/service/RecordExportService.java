@@ -0,0 +1,9 @@
+package com.vorofpie.timetracker.service;
+
+import com.vorofpie.timetracker.dto.request.RecordExportFilter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface RecordExportService {
+
+    StreamingResponseBody exportRecords(RecordExportFilter filter);
+}
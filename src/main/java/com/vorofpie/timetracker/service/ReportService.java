@@ -0,0 +1,9 @@
+package com.vorofpie.timetracker.service;
+
+import com.vorofpie.timetracker.dto.request.ReportFilter;
+import com.vorofpie.timetracker.dto.response.ReportResponse;
+
+public interface ReportService {
+
+    ReportResponse getReport(ReportFilter filter);
+}
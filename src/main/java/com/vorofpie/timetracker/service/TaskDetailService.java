@@ -1,15 +1,18 @@
 package com.vorofpie.timetracker.service;
 
 import com.vorofpie.timetracker.dto.request.TaskDetailRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
 import com.vorofpie.timetracker.dto.response.TaskDetailResponse;
-
-import java.util.List;
+import com.vorofpie.timetracker.dto.response.TaskDetailSummaryResponse;
+import com.vorofpie.timetracker.mapper.FieldSelection;
 
 public interface TaskDetailService {
 
-    List<TaskDetailResponse> getAllTaskDetails();
+    CursorPageResponse<TaskDetailResponse> getAllTaskDetails(Long cursor, Integer limit, FieldSelection selection);
+
+    CursorPageResponse<TaskDetailSummaryResponse> getTaskDetailSummaries(Long cursor, Integer limit);
 
-    TaskDetailResponse getTaskDetailById(Long id);
+    TaskDetailResponse getTaskDetailById(Long id, FieldSelection selection);
 
     TaskDetailResponse createTaskDetail(TaskDetailRequest taskDetailRequest);
 
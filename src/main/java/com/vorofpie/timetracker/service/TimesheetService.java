@@ -0,0 +1,11 @@
+package com.vorofpie.timetracker.service;
+
+import com.vorofpie.timetracker.dto.request.TimesheetFilter;
+import com.vorofpie.timetracker.dto.response.TimesheetEntry;
+
+import java.util.List;
+
+public interface TimesheetService {
+
+    List<TimesheetEntry> getTimesheet(TimesheetFilter filter);
+}
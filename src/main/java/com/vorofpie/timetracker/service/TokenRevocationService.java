@@ -0,0 +1,17 @@
+package com.vorofpie.timetracker.service;
+
+import com.vorofpie.timetracker.domain.User;
+import com.vorofpie.timetracker.token.ParsedToken;
+
+public interface TokenRevocationService {
+
+    void saveUserToken(User user, String accessToken);
+
+    void revokeAllUserTokens(User user);
+
+    boolean revokeToken(String token);
+
+    boolean isTokenActive(String token, ParsedToken parsedToken, User user);
+
+    boolean isRefreshTokenActive(ParsedToken parsedToken, User user);
+}
@@ -1,14 +1,13 @@
 package com.vorofpie.timetracker.service;
 
 import com.vorofpie.timetracker.dto.request.UserRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
 import com.vorofpie.timetracker.dto.response.UserResponse;
 
-import java.util.List;
-
 public interface UserService {
 
 
-    List<UserResponse> getAllUsers();
+    CursorPageResponse<UserResponse> getAllUsers(Long cursor, Integer limit);
 
     UserResponse getUserById(Long id);
 
@@ -0,0 +1,254 @@
+package com.vorofpie.timetracker.service.impl;
+
+import com.vorofpie.timetracker.dto.request.RecordExportFilter;
+import com.vorofpie.timetracker.dto.response.ExportJobResponse;
+import com.vorofpie.timetracker.error.exception.ResourceNotFoundException;
+import com.vorofpie.timetracker.error.exception.ServiceOverloadedException;
+import com.vorofpie.timetracker.export.CsvChannelWriter;
+import com.vorofpie.timetracker.export.ExportJob;
+import com.vorofpie.timetracker.export.ExportStatus;
+import com.vorofpie.timetracker.export.RecordExportRow;
+import com.vorofpie.timetracker.repository.RecordDetailRepository;
+import com.vorofpie.timetracker.service.CsvExportService;
+import com.vorofpie.timetracker.service.props.CsvExportProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.vorofpie.timetracker.error.ErrorMessages.EXPORT_FILE_NOT_READY_MESSAGE;
+import static com.vorofpie.timetracker.error.ErrorMessages.EXPORT_JOB_NOT_FOUND_MESSAGE;
+import static com.vorofpie.timetracker.error.ErrorMessages.SERVICE_OVERLOADED_MESSAGE;
+
+/**
+ * Implementation of the CsvExportService interface, running bulk exports of time records as background jobs.
+ *
+ * <p>Each job streams flat rows of records joined with their user, task and project through a read-only criteria
+ * projection and writes them to a CSV file with a {@link CsvChannelWriter}. Jobs run on a small bounded pool; their
+ * state, progress and throughput can be polled, and finished files are downloadable until the retention expires.</p>
+ */
+@Slf4j
+@Service
+public class CsvExportServiceImpl implements CsvExportService {
+
+    private static final String[] HEADER = {
+            "id", "username", "user_email", "project", "task", "start_time", "end_time", "description"
+    };
+    private static final int PROGRESS_EVERY = 10_000;
+
+    private final RecordDetailRepository recordDetailRepository; // Source of the exported rows
+    private final TransactionTemplate transactionTemplate; // Read-only transaction keeping the row stream open
+    private final CsvExportProperties properties; // Export settings
+    private final ThreadPoolExecutor executor; // Bounded pool running the exports
+    private final Map<UUID, ExportJob> jobs = new ConcurrentHashMap<>(); // Known jobs by ID
+    private final Counter exportedRows; // Rows written by all exports
+    private final DistributionSummary throughput; // Rows per second of finished exports
+
+    public CsvExportServiceImpl(RecordDetailRepository recordDetailRepository,
+                                PlatformTransactionManager transactionManager,
+                                CsvExportProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.recordDetailRepository = recordDetailRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                properties.getConcurrency(), properties.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().name("csv-export-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.exportedRows = Counter.builder("export.csv.rows")
+                .description("Rows written by CSV exports")
+                .register(meterRegistry);
+        this.throughput = DistributionSummary.builder("export.csv.rows.per.second")
+                .description("Throughput of finished CSV exports")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Submits a background export of the records matching the filter.
+     *
+     * @param filter the export filters
+     * @return the state of the submitted job
+     * @throws ServiceOverloadedException if too many exports are already waiting
+     */
+    @Override
+    public ExportJobResponse startRecordExport(RecordExportFilter filter) {
+        UUID id = UUID.randomUUID();
+        ExportJob job = new ExportJob(id, properties.getDirectory().resolve("records-" + id + ".csv"));
+        jobs.put(id, job);
+        try {
+            executor.execute(() -> run(job, filter));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(id);
+            throw new ServiceOverloadedException(SERVICE_OVERLOADED_MESSAGE);
+        }
+        return toResponse(job);
+    }
+
+    /**
+     * Returns the state of an export job.
+     *
+     * @param id the ID of the job
+     * @return the state of the job
+     * @throws ResourceNotFoundException if the job is unknown
+     */
+    @Override
+    public ExportJobResponse getExportJob(UUID id) {
+        return toResponse(findJobOrThrow(id));
+    }
+
+    /**
+     * Returns the file of a completed export job.
+     *
+     * @param id the ID of the job
+     * @return the export file
+     * @throws ResourceNotFoundException if the job is unknown or has not completed
+     */
+    @Override
+    public Resource getExportFile(UUID id) {
+        ExportJob job = findJobOrThrow(id);
+        if (job.getStatus() != ExportStatus.COMPLETED) {
+            throw new ResourceNotFoundException(String.format(EXPORT_FILE_NOT_READY_MESSAGE, id));
+        }
+        return new FileSystemResource(job.getFile());
+    }
+
+    /**
+     * Removes finished jobs and their files once the retention has expired.
+     */
+    @Scheduled(fixedDelayString = "${application.export.csv.cleanup-interval:PT1H}")
+    public void removeExpiredJobs() {
+        Instant cutoff = Instant.now().minus(properties.getRetention());
+        Iterator<ExportJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext()) {
+            ExportJob job = iterator.next();
+            if (job.getFinishedAt() != null && job.getFinishedAt().isBefore(cutoff)) {
+                iterator.remove();
+                deleteQuietly(job.getFile());
+            }
+        }
+    }
+
+    /**
+     * Stops running exports on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs an export job, recording its progress, throughput and outcome.
+     *
+     * @param job    the job
+     * @param filter the export filters
+     */
+    private void run(ExportJob job, RecordExportFilter filter) {
+        job.start();
+        try {
+            Files.createDirectories(job.getFile().getParent());
+            long rows = transactionTemplate.execute(status -> writeRows(job, filter));
+            job.complete(rows);
+            throughput.record(job.rowsPerSecond());
+            log.info("Exported {} records to {} at {} rows/s", rows, job.getFile(), Math.round(job.rowsPerSecond()));
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+            deleteQuietly(job.getFile());
+            log.error("Export {} failed", job.getId(), e);
+        }
+    }
+
+    /**
+     * Streams the matching rows into the job's file.
+     *
+     * @param job    the job
+     * @param filter the export filters
+     * @return the number of written rows
+     */
+    private long writeRows(ExportJob job, RecordExportFilter filter) {
+        long rows = 0;
+        try (CsvChannelWriter writer = new CsvChannelWriter(job.getFile(), properties.getBufferSize(), properties.getDictionarySize());
+             Stream<RecordExportRow> stream = recordDetailRepository.streamExportRows(filter)) {
+            for (String column : HEADER) {
+                writer.writeRepeated(column);
+            }
+            writer.endRow();
+
+            Iterator<RecordExportRow> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                RecordExportRow row = iterator.next();
+                writer.writePlain(row.id());
+                writer.writeRepeated(row.username());
+                writer.writeRepeated(row.userEmail());
+                writer.writeRepeated(row.projectName());
+                writer.writeRepeated(row.taskName());
+                writer.writePlain(row.startTime());
+                writer.writePlain(row.endTime());
+                writer.writeText(row.description());
+                writer.endRow();
+                if (++rows % PROGRESS_EVERY == 0) {
+                    job.progress(rows);
+                    exportedRows.increment(PROGRESS_EVERY);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        exportedRows.increment(rows % PROGRESS_EVERY);
+        return rows;
+    }
+
+    private ExportJob findJobOrThrow(UUID id) {
+        ExportJob job = jobs.get(id);
+        if (job == null) {
+            throw new ResourceNotFoundException(String.format(EXPORT_JOB_NOT_FOUND_MESSAGE, id));
+        }
+        return job;
+    }
+
+    private static ExportJobResponse toResponse(ExportJob job) {
+        return new ExportJobResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getRows(),
+                job.rowsPerSecond(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getError()
+        );
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}", file, e);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.vorofpie.timetracker.service.impl;
 
+import com.vorofpie.timetracker.cache.RoleCache;
 import com.vorofpie.timetracker.config.SecurityUser;
+import com.vorofpie.timetracker.domain.User;
 import com.vorofpie.timetracker.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -11,13 +14,16 @@ import org.springframework.stereotype.Service;
 /**
  * Custom implementation of the UserDetailsService interface to load user-specific data during authentication.
  * This service fetches user details from the database and wraps them into a SecurityUser object.
+ * It also stores upgraded password hashes produced on successful login.
  */
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     // Repository to interact with the User entity in the database
     private final UserRepository userRepository;
+    // Cache resolving the role of a user without loading it
+    private final RoleCache roleCache;
 
     /**
      * Loads user-specific data by username (email) from the database.
@@ -30,11 +36,25 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         // Find the user by email using the UserRepository
+        User user = userRepository.findByEmail(username)
+                // Throw exception if user is not found
+                .orElseThrow(() -> new UsernameNotFoundException(String.format("Username not found: %s", username)));
         // Wrap the found user into a SecurityUser object
-        return new SecurityUser(
-                userRepository.findByEmail(username)
-                        // Throw exception if user is not found
-                        .orElseThrow(() -> new UsernameNotFoundException(String.format("Username not found: %s", username)))
-        );
+        return new SecurityUser(user, roleCache.roleOf(user));
+    }
+
+    /**
+     * Stores a password hash re-encoded with the current encoding after a successful login.
+     *
+     * @param userDetails the authenticated user
+     * @param newPassword the new password hash
+     * @return the user details with the updated password
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        SecurityUser securityUser = (SecurityUser) userDetails;
+        User user = securityUser.user();
+        user.setPassword(newPassword);
+        return new SecurityUser(userRepository.save(user), securityUser.role());
     }
 }
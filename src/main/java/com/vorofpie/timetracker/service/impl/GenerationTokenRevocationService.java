@@ -0,0 +1,138 @@
+package com.vorofpie.timetracker.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vorofpie.timetracker.domain.User;
+import com.vorofpie.timetracker.repository.UserRepository;
+import com.vorofpie.timetracker.service.JwtService;
+import com.vorofpie.timetracker.service.TokenRevocationService;
+import com.vorofpie.timetracker.service.props.TokenCacheProperties;
+import com.vorofpie.timetracker.token.ParsedToken;
+import com.vorofpie.timetracker.token.VerifiedTokenCache;
+import io.jsonwebtoken.JwtException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import static com.vorofpie.timetracker.service.JwtService.GENERATION_CLAIM;
+
+/**
+ * Stateless token revocation based on a per-user token generation.
+ * <p>
+ * Every token carries the generation of its user at the time it was issued. Revocation increments the user's
+ * generation, which invalidates all previously issued tokens at once, so no token rows are written or read.
+ * Current generations are kept in a small cache that is updated immediately on revocation and refreshed
+ * from the database after the token cache TTL. Selected with {@code application.security.revocation.mode=generation}.
+ */
+@Service
+@ConditionalOnProperty(prefix = "application.security.revocation", name = "mode", havingValue = "generation")
+public class GenerationTokenRevocationService implements TokenRevocationService {
+
+    private static final String INCREMENT_GENERATION_SQL =
+            "update users set token_generation = token_generation + 1 where id = ? returning token_generation";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JwtService jwtService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    // Current token generation by user ID
+    private final Cache<Long, Integer> generations;
+
+    public GenerationTokenRevocationService(UserRepository userRepository,
+                                            JdbcTemplate jdbcTemplate,
+                                            JwtService jwtService,
+                                            VerifiedTokenCache verifiedTokenCache,
+                                            TokenCacheProperties tokenCacheProperties) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jwtService = jwtService;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(tokenCacheProperties.getMaxSize())
+                .expireAfterWrite(tokenCacheProperties.getTtl())
+                .build();
+    }
+
+    /**
+     * Nothing is stored: the token already carries the user's generation.
+     *
+     * @param user the user entity the token was issued to
+     * @param accessToken the access token
+     */
+    @Override
+    public void saveUserToken(User user, String accessToken) {
+    }
+
+    /**
+     * Revokes all tokens of the user by incrementing the user's token generation.
+     * The new generation is read back by the same statement, so concurrent revocations each get their own generation,
+     * and is set on the given user so that tokens issued afterwards are accepted.
+     *
+     * @param user the user entity whose tokens to revoke
+     */
+    @Override
+    public void revokeAllUserTokens(User user) {
+        int generation = jdbcTemplate.queryForObject(INCREMENT_GENERATION_SQL, Integer.class, user.getId());
+        user.setTokenGeneration(generation);
+        generations.put(user.getId(), generation);
+        verifiedTokenCache.evictUser(user.getId());
+    }
+
+    /**
+     * Revokes the token by revoking all tokens of its user.
+     *
+     * @param token the JWT token to revoke
+     * @return true if the token's user was found and its tokens revoked; false otherwise
+     */
+    @Override
+    public boolean revokeToken(String token) {
+        String userEmail;
+        try {
+            userEmail = jwtService.parseToken(token).subject();
+        } catch (JwtException e) {
+            return false;
+        }
+        if (userEmail == null) {
+            return false;
+        }
+        return userRepository.findByEmail(userEmail)
+                .map(user -> {
+                    revokeAllUserTokens(user);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * Checks that the token was issued with the user's current token generation.
+     *
+     * @param token the JWT token
+     * @param parsedToken the parsed JWT token
+     * @param user the user the token belongs to
+     * @return true if the token is active; false otherwise
+     */
+    @Override
+    public boolean isTokenActive(String token, ParsedToken parsedToken, User user) {
+        Integer tokenGeneration = parsedToken.claim(GENERATION_CLAIM, Integer.class);
+        if (tokenGeneration == null) {
+            return false;
+        }
+        int currentGeneration = generations.get(user.getId(), id -> user.getTokenGeneration());
+        return tokenGeneration == currentGeneration;
+    }
+
+    /**
+     * Checks that the refresh token was issued with the user's token generation, so refresh tokens are revoked
+     * together with access tokens. The generation is taken from the given user, which the refresh flow has just
+     * loaded, rather than from the cache, which may lag behind revocations made by other instances.
+     *
+     * @param parsedToken the parsed refresh token
+     * @param user the freshly loaded user the token belongs to
+     * @return true if the token is active; false otherwise
+     */
+    @Override
+    public boolean isRefreshTokenActive(ParsedToken parsedToken, User user) {
+        Integer tokenGeneration = parsedToken.claim(GENERATION_CLAIM, Integer.class);
+        return tokenGeneration != null && tokenGeneration == user.getTokenGeneration();
+    }
+}
@@ -1,12 +1,16 @@
 package com.vorofpie.timetracker.service.impl;
 
+import com.vorofpie.timetracker.config.SecurityUser;
 import com.vorofpie.timetracker.service.JwtService;
 import com.vorofpie.timetracker.service.props.JwtProperties;
+import com.vorofpie.timetracker.token.ParsedToken;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -28,6 +32,35 @@ public class JwtServiceImpl implements JwtService {
     // Holds JWT properties such as secret key and expiration times
     private final JwtProperties jwtProperties;
 
+    // HMAC key decoded once from the configured secret
+    private Key signInKey;
+    // Thread-safe parser reused for every verification
+    private JwtParser jwtParser;
+
+    /**
+     * Decodes the signing key and builds the JWT parser once at startup.
+     */
+    @PostConstruct
+    void init() {
+        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret()); // Decode the base64-encoded secret
+        signInKey = Keys.hmacShaKeyFor(keyBytes); // Generate the HMAC key
+        jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signInKey) // Set the signing key
+                .build();
+    }
+
+    /**
+     * Parses and verifies the JWT token once, returning its subject, expiration and claims together.
+     *
+     * @param token the JWT token
+     * @return the parsed token
+     */
+    @Override
+    public ParsedToken parseToken(String token) {
+        Claims claims = extractAllClaims(token);
+        return new ParsedToken(claims.getSubject(), claims.getExpiration(), claims);
+    }
+
     /**
      * Extracts the user's email from the JWT token.
      *
@@ -61,7 +94,7 @@ public class JwtServiceImpl implements JwtService {
      */
     @Override
     public String generateToken(UserDetails userDetails) {
-        return buildToken(new HashMap<>(), userDetails, jwtProperties.getAccess());
+        return buildToken(new HashMap<>(), userDetails, ACCESS_TOKEN_TYPE, jwtProperties.getAccess());
     }
 
     /**
@@ -73,7 +106,7 @@ public class JwtServiceImpl implements JwtService {
      */
     @Override
     public String generateToken(Map<String, Object> claims, UserDetails userDetails) {
-        return buildToken(claims, userDetails, jwtProperties.getAccess());
+        return buildToken(claims, userDetails, ACCESS_TOKEN_TYPE, jwtProperties.getAccess());
     }
 
     /**
@@ -84,7 +117,7 @@ public class JwtServiceImpl implements JwtService {
      */
     @Override
     public String generateRefreshToken(UserDetails userDetails) {
-        return buildToken(new HashMap<>(), userDetails, jwtProperties.getRefresh());
+        return buildToken(new HashMap<>(), userDetails, REFRESH_TOKEN_TYPE, jwtProperties.getRefresh());
     }
 
     /**
@@ -96,25 +129,44 @@ public class JwtServiceImpl implements JwtService {
      */
     @Override
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String userEmail = extractUserEmail(token);
-        return userEmail.equals(userDetails.getUsername()) && !isTokenExpired(token);
+        return isTokenValid(parseToken(token), userDetails);
+    }
+
+    /**
+     * Validates an already parsed JWT token against the provided user details without parsing it again.
+     *
+     * @param token the parsed JWT token to validate
+     * @param userDetails the user details to compare against
+     * @return true if the token is valid; false otherwise
+     */
+    @Override
+    public boolean isTokenValid(ParsedToken token, UserDetails userDetails) {
+        return token.subject().equals(userDetails.getUsername()) && !token.isExpired();
     }
 
     /**
      * Builds a JWT token with the specified claims, user details, and expiration time.
+     * Every token carries its type, so a refresh token is never accepted as an access token and the other way round.
+     * Tokens of application users also carry the user's current token generation.
      *
      * @param claims custom claims to include in the token
      * @param userDetails the user details to include in the token
+     * @param type the token type, access or refresh
      * @param expiration the token expiration time in milliseconds
      * @return the generated JWT token
      */
-    private String buildToken(Map<String, Object> claims, UserDetails userDetails, long expiration) {
+    private String buildToken(Map<String, Object> claims, UserDetails userDetails, String type, long expiration) {
+        Map<String, Object> tokenClaims = new HashMap<>(claims);
+        tokenClaims.put(TYPE_CLAIM, type); // Set the token type, overriding any custom claim of the same name
+        if (userDetails instanceof SecurityUser securityUser) {
+            tokenClaims.put(GENERATION_CLAIM, securityUser.user().getTokenGeneration()); // Set the revocation generation
+        }
         return Jwts.builder()
-                .setClaims(claims) // Set custom claims
+                .setClaims(tokenClaims) // Set custom claims
                 .setSubject(userDetails.getUsername()) // Set the subject (username or email)
                 .setIssuedAt(new Date(System.currentTimeMillis())) // Set the issued date
                 .setExpiration(new Date(System.currentTimeMillis() + expiration)) // Set the expiration date
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256) // Sign the token with the secret key and algorithm
+                .signWith(signInKey, SignatureAlgorithm.HS256) // Sign the token with the secret key and algorithm
                 .compact(); // Compact the token into a string
     }
 
@@ -125,40 +177,8 @@ public class JwtServiceImpl implements JwtService {
      * @return the claims contained in the token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignInKey()) // Set the signing key
-                .build()
+        return jwtParser
                 .parseClaimsJws(token) // Parse the token and extract claims
                 .getBody();
     }
-
-    /**
-     * Retrieves the signing key for JWT operations.
-     *
-     * @return the key used for signing and verifying JWTs
-     */
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret()); // Decode the base64-encoded secret
-        return Keys.hmacShaKeyFor(keyBytes); // Generate the HMAC key
-    }
-
-    /**
-     * Checks if the JWT token has expired.
-     *
-     * @param token the JWT token
-     * @return true if the token is expired; false otherwise
-     */
-    private boolean isTokenExpired(String token) {
-        return parseTokenExpiration(token).before(new Date()); // Check if the token's expiration date is before the current date
-    }
-
-    /**
-     * Parses the expiration date from the JWT token.
-     *
-     * @param token the JWT token
-     * @return the expiration date of the token
-     */
-    private Date parseTokenExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration); // Extract the expiration claim
-    }
 }
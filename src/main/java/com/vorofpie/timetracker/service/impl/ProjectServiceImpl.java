@@ -1,29 +1,34 @@
 package com.vorofpie.timetracker.service.impl;
 
 import com.vorofpie.timetracker.aspect.annotation.ProjectMemberAccess;
-import com.vorofpie.timetracker.config.SecurityUser;
+import com.vorofpie.timetracker.cache.ProjectMembershipCache;
+import com.vorofpie.timetracker.cache.ProjectMembershipIndex;
+import com.vorofpie.timetracker.config.CurrentUser;
+import com.vorofpie.timetracker.config.CurrentUserProvider;
 import com.vorofpie.timetracker.domain.Project;
 import com.vorofpie.timetracker.domain.User;
 import com.vorofpie.timetracker.dto.request.CreateProjectRequest;
 import com.vorofpie.timetracker.dto.request.UpdateProjectRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
 import com.vorofpie.timetracker.dto.response.ProjectResponse;
+import com.vorofpie.timetracker.dto.response.ProjectSummaryResponse;
 import com.vorofpie.timetracker.error.exception.ResourceNotFoundException;
+import com.vorofpie.timetracker.mapper.FieldSelection;
 import com.vorofpie.timetracker.mapper.ProjectMapper;
+import com.vorofpie.timetracker.report.ReportCache;
+import com.vorofpie.timetracker.repository.ProjectRepository.ProjectSummary;
 import com.vorofpie.timetracker.repository.ProjectRepository;
 import com.vorofpie.timetracker.repository.UserRepository;
 import com.vorofpie.timetracker.service.ProjectService;
+import com.vorofpie.timetracker.service.props.PaginationProperties;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
-import static com.vorofpie.timetracker.domain.RoleName.ADMIN;
 import static com.vorofpie.timetracker.error.ErrorMessages.*;
+import static com.vorofpie.timetracker.service.props.PaginationProperties.fetchLimit;
 
 /**
  * Implementation of the ProjectService interface, providing project management operations.
@@ -35,51 +40,88 @@ public class ProjectServiceImpl implements ProjectService {
     private final ProjectRepository projectRepository; // Repository for project data access
     private final ProjectMapper projectMapper; // Mapper for converting between entities and DTOs
     private final UserRepository userRepository; // Repository for user data access
+    private final ProjectMembershipCache projectMembershipCache; // Cache of project membership decisions
+    private final ProjectMembershipIndex projectMembershipIndex; // In-memory index of project memberships
+    private final CurrentUserProvider currentUserProvider; // Provider of the authenticated user
+    private final PaginationProperties paginationProperties; // Page size limits of listings
+    private final ReportCache reportCache; // Cached reports, dropped when their records or visibility change
 
     /**
      * Retrieves all projects. If the user is an admin, all projects are returned; otherwise, only projects associated with the user are returned.
+     * Projects are returned in pages ordered by ID, starting after the given cursor.
      *
-     * @return a list of project responses
+     * @param cursor    the ID of the last project of the previous page, or null for the first page
+     * @param limit     the requested page size, or null for the default size
+     * @param selection the requested properties and nested collections of each project
+     * @return a page of project responses
      */
     @Override
-    public List<ProjectResponse> getAllProjects() {
+    public CursorPageResponse<ProjectResponse> getAllProjects(Long cursor, Integer limit, FieldSelection selection) {
         // Get the current authenticated user
-        SecurityUser securityUser = (SecurityUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        CurrentUser currentUser = currentUserProvider.get();
 
         // Check if the user has admin role
-        boolean isAdmin = securityUser.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(authority -> authority.equals("ROLE_" + ADMIN.name()));
+        boolean isAdmin = currentUser.isAdmin();
+
+        // Resolve the page size and the keyset position
+        int size = paginationProperties.resolveSize(limit);
+        long after = cursor == null ? 0L : cursor;
 
         List<Project> projects;
         // If the user is admin, fetch all projects; otherwise, fetch projects associated with the user
         if (isAdmin) {
-            projects = projectRepository.findAll();
+            projects = projectRepository.findByIdGreaterThanOrderByIdAsc(after, fetchLimit(size));
+        } else if (projectMembershipIndex.isReady()) {
+            // Resolve the user's projects from the membership index instead of joining project_users
+            List<Long> projectIds = projectMembershipIndex.projectIdsOf(currentUser.id());
+            projects = projectIds.isEmpty()
+                    ? List.of()
+                    : projectRepository.findByIdInAndIdGreaterThanOrderByIdAsc(projectIds, after, fetchLimit(size));
         } else {
-            projects = projectRepository.findByUsers_Id(securityUser.user().getId());
+            projects = projectRepository.findByUsers_IdAndIdGreaterThanOrderByIdAsc(currentUser.id(), after, fetchLimit(size));
         }
 
-        // Map the list of projects to a list of project responses
-        return projects.stream()
-                .map(projectMapper::toProjectResponse)
-                .collect(Collectors.toList());
+        // Map the page of projects to a page of project responses
+        return CursorPageResponse.of(projects, size, Project::getId, project -> projectMapper.toProjectResponse(project, selection));
+    }
+
+    /**
+     * Retrieves a page of project summaries. Admins get all projects; other users only projects they are members of.
+     *
+     * <p>Summaries are flat: counts and tracked time are computed by the database, so the cost of a page does not
+     * grow with the history behind each item.</p>
+     *
+     * @param cursor the ID of the last project of the previous page, or null for the first page
+     * @param limit  the requested page size, or null for the default size
+     * @return a page of project summaries
+     */
+    @Override
+    public CursorPageResponse<ProjectSummaryResponse> getProjectSummaries(Long cursor, Integer limit) {
+        CurrentUser currentUser = currentUserProvider.get();
+        int size = paginationProperties.resolveSize(limit);
+        long after = cursor == null ? 0L : cursor;
+        Long memberId = currentUser.isAdmin() ? null : currentUser.id();
+
+        List<ProjectSummary> summaries = projectRepository.findSummaries(after, memberId, size + 1);
+        return CursorPageResponse.of(summaries, size, ProjectSummary::getId, projectMapper::toProjectSummaryResponse);
     }
 
     /**
      * Retrieves a project by its ID. Requires that the user has access to the project.
      *
-     * @param id the ID of the project
+     * @param id        the ID of the project
+     * @param selection the requested properties and nested collections of the project
      * @return the project response
      */
     @Override
     @ProjectMemberAccess
-    public ProjectResponse getProjectById(Long id) {
+    public ProjectResponse getProjectById(Long id, FieldSelection selection) {
         // Find the project by ID or throw an exception if not found
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format(RESOURCE_NOT_FOUND_MESSAGE, "Project", id)));
 
-        // Convert the project entity to a project response DTO
-        return projectMapper.toProjectResponse(project);
+        // Convert the project entity to a project response DTO with the requested properties
+        return projectMapper.toProjectResponse(project, selection);
     }
 
     /**
@@ -101,8 +143,15 @@ public class ProjectServiceImpl implements ProjectService {
                             .ifPresent(records -> records.forEach(record -> record.setTask(task)));
                 }));
 
-        // Save the project and convert it to a project response DTO
-        return projectMapper.toProjectResponse(projectRepository.save(project));
+        // Save the project
+        Project savedProject = projectRepository.save(project);
+
+        // Register the memberships of the users created with the project
+        Optional.ofNullable(savedProject.getUsers())
+                .ifPresent(users -> users.forEach(user -> projectMembershipIndex.addMember(user.getId(), savedProject.getId())));
+
+        // Convert the project to a project response DTO
+        return projectMapper.toProjectResponse(savedProject);
     }
 
     /**
@@ -134,6 +183,11 @@ public class ProjectServiceImpl implements ProjectService {
     public void deleteProject(Long id) {
         // Delete the project by ID
         projectRepository.deleteById(id);
+
+        // Drop the cached membership decisions of the deleted project
+        projectMembershipCache.evictProject(id);
+        projectMembershipIndex.removeProject(id);
+        reportCache.invalidate();
     }
 
     /**
@@ -152,11 +206,24 @@ public class ProjectServiceImpl implements ProjectService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException(String.format(USER_NOT_FOUND_MESSAGE, userId)));
 
-        // Add the user to the project's user list
-        project.getUsers().add(user);
+        // Add the user to the project's user list unless already a member, memberships are unique
+        boolean alreadyMember = project.getUsers().stream().anyMatch(member -> member.getId().equals(userId));
+        if (!alreadyMember) {
+            project.getUsers().add(user);
+        }
+
+        // Save the updated project
+        Project savedProject = projectRepository.save(project);
 
-        // Save the updated project and convert it to a project response DTO
-        return projectMapper.toProjectResponse(projectRepository.save(project));
+        // Drop the cached denial for the new member and register the membership
+        projectMembershipCache.evict(userId, projectId);
+        projectMembershipIndex.addMember(userId, projectId);
+
+        // Reports of the new member now include the project
+        reportCache.invalidate();
+
+        // Convert the project to a project response DTO
+        return projectMapper.toProjectResponse(savedProject);
     }
 
     /**
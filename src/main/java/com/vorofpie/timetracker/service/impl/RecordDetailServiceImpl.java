@@ -1,28 +1,56 @@
 package com.vorofpie.timetracker.service.impl;
 
 import com.vorofpie.timetracker.aspect.annotation.ProjectMemberAccess;
-import com.vorofpie.timetracker.config.SecurityUser;
+import com.vorofpie.timetracker.cache.ProjectMembershipCache;
+import com.vorofpie.timetracker.cache.ProjectMembershipIndex;
+import com.vorofpie.timetracker.config.CurrentUser;
+import com.vorofpie.timetracker.config.CurrentUserProvider;
 import com.vorofpie.timetracker.domain.RecordDetail;
 import com.vorofpie.timetracker.domain.TaskDetail;
 import com.vorofpie.timetracker.domain.User;
+import com.vorofpie.timetracker.dto.request.RecordBatchRequest;
 import com.vorofpie.timetracker.dto.request.RecordDetailRequest;
+import com.vorofpie.timetracker.dto.request.RecordSearchFilter;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
+import com.vorofpie.timetracker.dto.response.RecordBatchError;
+import com.vorofpie.timetracker.dto.response.RecordBatchResponse;
 import com.vorofpie.timetracker.dto.response.RecordDetailResponse;
+import com.vorofpie.timetracker.dto.response.RecordDetailSummaryResponse;
 import com.vorofpie.timetracker.error.exception.ResourceNotFoundException;
 import com.vorofpie.timetracker.mapper.RecordDetailMapper;
+import com.vorofpie.timetracker.partition.RecordPartitions;
+import com.vorofpie.timetracker.report.ReportCache;
+import com.vorofpie.timetracker.repository.RecordDetailRepository.RecordDetailSummary;
 import com.vorofpie.timetracker.repository.RecordDetailRepository;
+import com.vorofpie.timetracker.repository.RecordDetailSpecifications;
+import com.vorofpie.timetracker.repository.TaskDetailRepository.TaskProjectId;
 import com.vorofpie.timetracker.repository.TaskDetailRepository;
+import com.vorofpie.timetracker.repository.UserRepository.UserIdByEmail;
 import com.vorofpie.timetracker.repository.UserRepository;
+import com.vorofpie.timetracker.rollup.RecordRollupUpdater;
 import com.vorofpie.timetracker.service.RecordDetailService;
+import com.vorofpie.timetracker.service.props.PaginationProperties;
+import com.vorofpie.timetracker.service.props.RecordBatchProperties;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import static com.vorofpie.timetracker.domain.RoleName.ADMIN;
 import static com.vorofpie.timetracker.error.ErrorMessages.*;
+import static com.vorofpie.timetracker.service.props.PaginationProperties.fetchLimit;
 
 /**
  * Implementation of the RecordDetailService interface, providing operations for managing record details.
@@ -30,15 +58,33 @@ import static com.vorofpie.timetracker.error.ErrorMessages.*;
  * <p>This service is responsible for CRUD operations on record details. It checks the user's role and access level
  * to ensure that users can only access or modify record details they have permissions for. The @ProjectMemberAccess
  * annotation is used to enforce access control based on the user's association with the project related to the record detail.</p>
+ *
+ * <p>Every write also applies its change of tracked time to the daily rollups in the same transaction, and drops
+ * the cached reports.</p>
  */
 @Service
 @RequiredArgsConstructor
 public class RecordDetailServiceImpl implements RecordDetailService {
 
+    private static final String INSERT_RECORD_SQL = """
+            insert into record_details (user_id, task_id, start_time, end_time, description)
+            values (?, ?, ?, ?, ?)
+            """;
+
     private final RecordDetailRepository recordDetailRepository; // Repository for RecordDetail entity
     private final TaskDetailRepository taskDetailRepository; // Repository for TaskDetail entity
     private final RecordDetailMapper recordDetailMapper; // Mapper for converting between RecordDetail entities and DTOs
     private final UserRepository userRepository; // Repository for User entity
+    private final ProjectMembershipIndex projectMembershipIndex; // In-memory index of project memberships
+    private final CurrentUserProvider currentUserProvider; // Provider of the authenticated user
+    private final PaginationProperties paginationProperties; // Page size limits of listings
+    private final ProjectMembershipCache projectMembershipCache; // Cache of membership checks missed by the index
+    private final JdbcTemplate jdbcTemplate; // JDBC access for batched inserts
+    private final Validator validator; // Validator of single rows of a batch
+    private final RecordBatchProperties recordBatchProperties; // Bulk ingestion settings
+    private final RecordRollupUpdater recordRollupUpdater; // Maintainer of the daily time rollups
+    private final ReportCache reportCache; // Cached reports, dropped on every write
+    private final RecordPartitions recordPartitions; // Monthly partitions of the records table
 
     /**
      * Retrieves all record details. If the user is an admin, all record details are returned; otherwise, only those associated with the user's tasks are returned.
@@ -46,25 +92,93 @@ public class RecordDetailServiceImpl implements RecordDetailService {
      * <p>Admins have access to all record details. Non-admin users can only see record details associated with tasks
      * that they are assigned to, based on their user ID.</p>
      *
-     * @return a list of record detail responses
+     * <p>Record details are returned in pages ordered by ID. Each page starts right after the cursor, so deep pages
+     * cost the same as the first one.</p>
+     *
+     * @param cursor the ID of the last record detail of the previous page, or null for the first page
+     * @param limit  the requested page size, or null for the default size
+     * @return a page of record detail responses
      */
     @Override
-    public List<RecordDetailResponse> getAllRecordDetails() {
-        SecurityUser securityUser = (SecurityUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        boolean isAdmin = securityUser.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(authority -> authority.equals("ROLE_" + ADMIN.name()));
+    public CursorPageResponse<RecordDetailResponse> getAllRecordDetails(Long cursor, Integer limit) {
+        CurrentUser currentUser = currentUserProvider.get();
+        boolean isAdmin = currentUser.isAdmin();
+        int size = paginationProperties.resolveSize(limit);
+        long after = cursor == null ? 0L : cursor;
 
         List<RecordDetail> recordDetails;
         if (isAdmin) {
-            recordDetails = recordDetailRepository.findAll();
+            recordDetails = recordDetailRepository.findByIdGreaterThanOrderByIdAsc(after, fetchLimit(size));
+        } else if (projectMembershipIndex.isReady()) {
+            List<Long> projectIds = projectMembershipIndex.projectIdsOf(currentUser.id());
+            recordDetails = projectIds.isEmpty()
+                    ? List.of()
+                    : recordDetailRepository.findByTask_Project_IdInAndIdGreaterThanOrderByIdAsc(projectIds, after, fetchLimit(size));
         } else {
-            recordDetails = recordDetailRepository.findByTask_Project_Users_Id(securityUser.user().getId());
+            recordDetails = recordDetailRepository.findByTask_Project_Users_IdAndIdGreaterThanOrderByIdAsc(currentUser.id(), after, fetchLimit(size));
+        }
+
+        return CursorPageResponse.of(recordDetails, size, RecordDetail::getId, recordDetailMapper::toRecordDetailResponse);
+    }
+
+    /**
+     * Searches record details by user, task, project and start time range.
+     *
+     * <p>Only the given filters become SQL predicates, so each search is a plain conjunction served by the record
+     * indexes: (user_id, start_time) and (task_id, start_time) for user and task searches, and the BRIN index on
+     * start_time for time ranges over the whole table. Non-admin users only find records of their projects.</p>
+     *
+     * @param filter the search filters, all optional
+     * @param cursor the ID of the last record detail of the previous page, or null for the first page
+     * @param limit  the requested page size, or null for the default size
+     * @return a page of matching record detail responses in ascending ID order
+     */
+    @Override
+    public CursorPageResponse<RecordDetailResponse> searchRecordDetails(RecordSearchFilter filter, Long cursor, Integer limit) {
+        CurrentUser currentUser = currentUserProvider.get();
+        int size = paginationProperties.resolveSize(limit);
+        long after = cursor == null ? 0L : cursor;
+
+        Specification<RecordDetail> specification = RecordDetailSpecifications.matching(filter)
+                .and(RecordDetailSpecifications.idGreaterThan(after));
+        if (!currentUser.isAdmin()) {
+            if (projectMembershipIndex.isReady()) {
+                List<Long> projectIds = projectMembershipIndex.projectIdsOf(currentUser.id());
+                if (projectIds.isEmpty()) {
+                    return new CursorPageResponse<>(List.of(), null);
+                }
+                specification = specification.and(RecordDetailSpecifications.inProjects(projectIds));
+            } else {
+                specification = specification.and(RecordDetailSpecifications.visibleTo(currentUser.id()));
+            }
         }
 
-        return recordDetails.stream()
-                .map(recordDetailMapper::toRecordDetailResponse)
-                .collect(Collectors.toList());
+        List<RecordDetail> recordDetails = recordDetailRepository.findBy(specification, query -> query
+                .sortBy(Sort.by("id"))
+                .limit(size + 1)
+                .all());
+        return CursorPageResponse.of(recordDetails, size, RecordDetail::getId, recordDetailMapper::toRecordDetailResponse);
+    }
+
+    /**
+     * Retrieves a page of record detail summaries. Admins get all records; other users only records of projects they are members of.
+     *
+     * <p>Summaries are flat: they carry the IDs of the task and user instead of the entities, and skip the
+     * description.</p>
+     *
+     * @param cursor the ID of the last record detail of the previous page, or null for the first page
+     * @param limit  the requested page size, or null for the default size
+     * @return a page of record detail summaries
+     */
+    @Override
+    public CursorPageResponse<RecordDetailSummaryResponse> getRecordDetailSummaries(Long cursor, Integer limit) {
+        CurrentUser currentUser = currentUserProvider.get();
+        int size = paginationProperties.resolveSize(limit);
+        long after = cursor == null ? 0L : cursor;
+        Long memberId = currentUser.isAdmin() ? null : currentUser.id();
+
+        List<RecordDetailSummary> summaries = recordDetailRepository.findSummaries(after, memberId, fetchLimit(size));
+        return CursorPageResponse.of(summaries, size, RecordDetailSummary::getId, recordDetailMapper::toRecordDetailSummaryResponse);
     }
 
     /**
@@ -93,6 +207,7 @@ public class RecordDetailServiceImpl implements RecordDetailService {
      * @return the created record detail response
      */
     @ProjectMemberAccess
+    @Transactional
     @Override
     public RecordDetailResponse createRecordDetail(RecordDetailRequest recordDetailRequest) {
         TaskDetail taskDetail = taskDetailRepository.findById(recordDetailRequest.taskId())
@@ -103,8 +218,86 @@ public class RecordDetailServiceImpl implements RecordDetailService {
         User user = userRepository.findByEmail(recordDetailRequest.userEmail())
                 .orElseThrow(() -> new ResourceNotFoundException(String.format(USER_NOT_FOUND_MESSAGE, recordDetailRequest.userEmail())));
         recordDetail.setUser(user);
+        recordPartitions.ensureMonthOf(recordDetail.getStartTime());
         taskDetailRepository.save(taskDetail);
-        return recordDetailMapper.toRecordDetailResponse(recordDetailRepository.save(recordDetail));
+        recordDetail = recordDetailRepository.save(recordDetail);
+        recordRollupUpdater.add(user.getId(), taskDetail.getProject().getId(), recordDetail.getStartTime(), recordDetail.getEndTime());
+        reportCache.invalidate();
+        return recordDetailMapper.toRecordDetailResponse(recordDetail);
+    }
+
+    /**
+     * Creates many record details at once, skipping invalid rows.
+     *
+     * <p>Each row is validated on its own. Tasks and users are resolved with one query per batch, and membership is
+     * checked once per distinct project. Rows that fail any of these checks are reported with their position and the
+     * reason; the remaining rows are inserted with JDBC batches, which the driver rewrites into multi-row inserts.</p>
+     *
+     * @param recordBatchRequest the records to create
+     * @return the number of received and created records, and the rejected rows
+     */
+    @Transactional
+    @Override
+    public RecordBatchResponse createRecordDetails(RecordBatchRequest recordBatchRequest) {
+        List<RecordDetailRequest> rows = recordBatchRequest.records();
+        List<RecordBatchError> errors = new ArrayList<>();
+        List<RecordDetailRequest> validRows = new ArrayList<>(rows.size());
+        List<Integer> validIndexes = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            RecordDetailRequest row = rows.get(i);
+            String violation = row == null ? "Record must not be null" : firstViolation(row);
+            if (violation != null) {
+                errors.add(new RecordBatchError(i, violation));
+            } else {
+                validRows.add(row);
+                validIndexes.add(i);
+            }
+        }
+
+        Set<Long> taskIds = validRows.stream().map(RecordDetailRequest::taskId).collect(Collectors.toSet());
+        Set<String> emails = validRows.stream().map(RecordDetailRequest::userEmail).collect(Collectors.toSet());
+        Map<Long, Long> projectIdByTaskId = taskIds.isEmpty() ? Map.of() : taskDetailRepository.findProjectIdsByIdIn(taskIds)
+                .stream()
+                .collect(Collectors.toMap(TaskProjectId::getId, TaskProjectId::getProjectId));
+        Map<String, Long> userIdByEmail = emails.isEmpty() ? Map.of() : userRepository.findIdsByEmailIn(emails)
+                .stream()
+                .collect(Collectors.toMap(UserIdByEmail::getEmail, UserIdByEmail::getId));
+        Set<Long> allowedProjectIds = allowedProjects(new HashSet<>(projectIdByTaskId.values()));
+
+        List<Object[]> inserts = new ArrayList<>(validRows.size());
+        List<LocalDateTime> startTimes = new ArrayList<>(validRows.size());
+        RecordRollupUpdater.Deltas rollupDeltas = new RecordRollupUpdater.Deltas();
+        for (int i = 0; i < validRows.size(); i++) {
+            RecordDetailRequest row = validRows.get(i);
+            Long projectId = projectIdByTaskId.get(row.taskId());
+            Long userId = userIdByEmail.get(row.userEmail());
+            if (projectId == null) {
+                errors.add(new RecordBatchError(validIndexes.get(i), String.format(TASK_DETAIL_NOT_FOUND_MESSAGE, row.taskId())));
+            } else if (!allowedProjectIds.contains(projectId)) {
+                errors.add(new RecordBatchError(validIndexes.get(i), ACCESS_DENIED_ERROR_MESSAGE));
+            } else if (userId == null) {
+                errors.add(new RecordBatchError(validIndexes.get(i), String.format(USER_NOT_FOUND_MESSAGE, row.userEmail())));
+            } else {
+                inserts.add(new Object[]{
+                        userId, row.taskId(), Timestamp.valueOf(row.startTime()), Timestamp.valueOf(row.endTime()), row.description()
+                });
+                startTimes.add(row.startTime());
+                rollupDeltas.add(userId, projectId, row.startTime(), row.endTime());
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            recordPartitions.ensureMonthsOf(startTimes);
+            jdbcTemplate.batchUpdate(INSERT_RECORD_SQL, inserts, recordBatchProperties.getJdbcBatchSize(), (ps, values) -> {
+                for (int column = 0; column < values.length; column++) {
+                    ps.setObject(column + 1, values[column]);
+                }
+            });
+            recordRollupUpdater.apply(rollupDeltas);
+            reportCache.invalidate();
+        }
+        errors.sort((a, b) -> Integer.compare(a.index(), b.index()));
+        return new RecordBatchResponse(rows.size(), inserts.size(), errors);
     }
 
     /**
@@ -118,14 +311,22 @@ public class RecordDetailServiceImpl implements RecordDetailService {
      * @return the updated record detail response
      */
     @ProjectMemberAccess
+    @Transactional
     @Override
     public RecordDetailResponse updateRecordDetail(Long id, RecordDetailRequest recordDetailRequest) {
         RecordDetail existingRecordDetail = findRecordDetailByIdOrThrow(id);
+        Long projectId = existingRecordDetail.getTask().getProject().getId();
+        RecordRollupUpdater.Deltas rollupDeltas = new RecordRollupUpdater.Deltas().subtract(
+                existingRecordDetail.getUser().getId(), projectId, existingRecordDetail.getStartTime(), existingRecordDetail.getEndTime());
         recordDetailMapper.updateRecordDetailFromRequest(recordDetailRequest, existingRecordDetail);
         User user = userRepository.findByEmail(recordDetailRequest.userEmail())
                 .orElseThrow(() -> new ResourceNotFoundException(String.format(USER_NOT_FOUND_MESSAGE, recordDetailRequest.userEmail())));
         existingRecordDetail.setUser(user);
+        recordPartitions.ensureMonthOf(existingRecordDetail.getStartTime());
         existingRecordDetail = recordDetailRepository.save(existingRecordDetail);
+        rollupDeltas.add(user.getId(), projectId, existingRecordDetail.getStartTime(), existingRecordDetail.getEndTime());
+        recordRollupUpdater.apply(rollupDeltas);
+        reportCache.invalidate();
         return recordDetailMapper.toRecordDetailResponse(existingRecordDetail);
     }
 
@@ -138,9 +339,53 @@ public class RecordDetailServiceImpl implements RecordDetailService {
      * @param id the ID of the record detail to delete
      */
     @ProjectMemberAccess
+    @Transactional
     @Override
     public void deleteRecordDetail(Long id) {
-        recordDetailRepository.deleteById(id);
+        recordDetailRepository.findById(id).ifPresent(recordDetail -> {
+            recordRollupUpdater.subtract(recordDetail.getUser().getId(), recordDetail.getTask().getProject().getId(),
+                    recordDetail.getStartTime(), recordDetail.getEndTime());
+            recordDetailRepository.delete(recordDetail);
+            reportCache.invalidate();
+        });
+    }
+
+    /**
+     * Returns the projects, out of the given ones, the current user may add records to.
+     * Admins may use every project; other users only those they are members of.
+     *
+     * @param projectIds the IDs of the projects to check
+     * @return the IDs of the accessible projects
+     */
+    private Set<Long> allowedProjects(Set<Long> projectIds) {
+        CurrentUser currentUser = currentUserProvider.get();
+        if (currentUser.isAdmin()) {
+            return projectIds;
+        }
+        Set<Long> allowed = new HashSet<>();
+        for (Long projectId : projectIds) {
+            boolean member = projectMembershipIndex.isReady() && projectMembershipIndex.isMember(currentUser.id(), projectId)
+                    || projectMembershipCache.isMember(currentUser.id(), projectId);
+            if (member) {
+                allowed.add(projectId);
+            }
+        }
+        return allowed;
+    }
+
+    /**
+     * Validates one row of a batch.
+     *
+     * @param row the row to validate
+     * @return the first constraint violation as "field: message", or null if the row is valid
+     */
+    private String firstViolation(RecordDetailRequest row) {
+        Set<ConstraintViolation<RecordDetailRequest>> violations = validator.validate(row);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        ConstraintViolation<RecordDetailRequest> violation = violations.iterator().next();
+        return violation.getPropertyPath() + ": " + violation.getMessage();
     }
 
     /**
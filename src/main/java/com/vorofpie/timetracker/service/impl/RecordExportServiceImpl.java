@@ -0,0 +1,162 @@
+package com.vorofpie.timetracker.service.impl;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vorofpie.timetracker.config.CurrentUser;
+import com.vorofpie.timetracker.config.CurrentUserProvider;
+import com.vorofpie.timetracker.dto.request.RecordExportFilter;
+import com.vorofpie.timetracker.service.RecordExportService;
+import com.vorofpie.timetracker.service.props.RecordExportProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Implementation of the RecordExportService interface, streaming time records as newline-delimited JSON.
+ *
+ * <p>Rows are read through a forward-only JDBC cursor with a bounded fetch size and written to the response stream one
+ * by one, without creating managed entities or collecting rows in memory. Memory use stays flat regardless of the
+ * number of exported rows. Regular users only export records of the projects they are members of.</p>
+ */
+@Slf4j
+@Service
+public class RecordExportServiceImpl implements RecordExportService {
+
+    private static final String SELECT_RECORDS = """
+            select r.id, r.user_id, u.email, t.project_id, r.task_id, r.start_time, r.end_time, r.description
+            from record_details r
+                     join task_details t on t.id = r.task_id
+                     join users u on u.id = r.user_id
+            where 1 = 1""";
+
+    private final JdbcTemplate jdbcTemplate; // Template reading rows through a cursor
+    private final TransactionTemplate transactionTemplate; // Read-only transaction, required for cursor fetching
+    private final CurrentUserProvider currentUserProvider; // Provider of the authenticated user
+    private final ObjectMapper objectMapper; // Source of the JSON generator
+    private final RecordExportProperties properties; // Fetch and flush settings
+
+    public RecordExportServiceImpl(DataSource dataSource,
+                                   PlatformTransactionManager transactionManager,
+                                   CurrentUserProvider currentUserProvider,
+                                   ObjectMapper objectMapper,
+                                   RecordExportProperties properties) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(properties.getFetchSize());
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.currentUserProvider = currentUserProvider;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    /**
+     * Prepares a streaming export of the records matching the filter.
+     *
+     * <p>The current user is resolved on the request thread, because the returned body is written on an async thread
+     * without the security context.</p>
+     *
+     * @param filter the export filters
+     * @return the response body writing one JSON object per line
+     */
+    @Override
+    public StreamingResponseBody exportRecords(RecordExportFilter filter) {
+        CurrentUser currentUser = currentUserProvider.get();
+
+        // Build the query with the requested filters
+        StringBuilder sql = new StringBuilder(SELECT_RECORDS);
+        List<Object> args = new ArrayList<>();
+        if (filter.userId() != null) {
+            sql.append(" and r.user_id = ?");
+            args.add(filter.userId());
+        }
+        if (filter.projectId() != null) {
+            sql.append(" and t.project_id = ?");
+            args.add(filter.projectId());
+        }
+        if (filter.from() != null) {
+            sql.append(" and r.start_time >= ?");
+            args.add(Timestamp.valueOf(filter.from()));
+        }
+        if (filter.to() != null) {
+            sql.append(" and r.start_time < ?");
+            args.add(Timestamp.valueOf(filter.to()));
+        }
+        // Regular users only see records of their own projects
+        if (!currentUser.isAdmin()) {
+            sql.append(" and exists (select 1 from project_users pu where pu.project_id = t.project_id and pu.user_id = ?)");
+            args.add(currentUser.id());
+        }
+        sql.append(" order by r.id");
+
+        String query = sql.toString();
+        Object[] queryArgs = args.toArray();
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // Lines are separated explicitly, and the response stream is closed by the container
+                generator.setRootValueSeparator(null);
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                long rows = transactionTemplate.execute(status -> streamRows(query, queryArgs, generator));
+                generator.flush();
+                log.info("Exported {} records for user {}", rows, currentUser.id());
+            }
+        };
+    }
+
+    /**
+     * Reads the rows through the cursor and writes each one as a JSON line.
+     *
+     * @param query     the SQL query
+     * @param args      the query arguments
+     * @param generator the generator writing to the response stream
+     * @return the number of written rows
+     */
+    private long streamRows(String query, Object[] args, JsonGenerator generator) {
+        long[] rows = {0};
+        jdbcTemplate.query(query, (RowCallbackHandler) rs -> {
+            try {
+                writeRow(rs, generator);
+                if (++rows[0] % properties.getFlushEvery() == 0) {
+                    generator.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, args);
+        return rows[0];
+    }
+
+    /**
+     * Writes the current row of the result set as one JSON object followed by a newline.
+     *
+     * @param rs        the result set positioned on a row
+     * @param generator the JSON generator
+     * @throws SQLException if a column cannot be read
+     * @throws IOException  if the response stream cannot be written
+     */
+    private void writeRow(ResultSet rs, JsonGenerator generator) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", rs.getLong(1));
+        generator.writeNumberField("userId", rs.getLong(2));
+        generator.writeStringField("userEmail", rs.getString(3));
+        generator.writeNumberField("projectId", rs.getLong(4));
+        generator.writeNumberField("taskId", rs.getLong(5));
+        generator.writeStringField("startTime", rs.getTimestamp(6).toLocalDateTime().toString());
+        generator.writeStringField("endTime", rs.getTimestamp(7).toLocalDateTime().toString());
+        generator.writeStringField("description", rs.getString(8));
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+}
@@ -0,0 +1,325 @@
+package com.vorofpie.timetracker.service.impl;
+
+import com.vorofpie.timetracker.config.CurrentUser;
+import com.vorofpie.timetracker.config.CurrentUserProvider;
+import com.vorofpie.timetracker.domain.TaskStatus;
+import com.vorofpie.timetracker.dto.request.PeriodGranularity;
+import com.vorofpie.timetracker.dto.request.ReportDimension;
+import com.vorofpie.timetracker.dto.request.ReportFilter;
+import com.vorofpie.timetracker.dto.response.ReportResponse;
+import com.vorofpie.timetracker.dto.response.ReportRow;
+import com.vorofpie.timetracker.error.exception.InvalidDateRangeException;
+import com.vorofpie.timetracker.error.exception.ServiceOverloadedException;
+import com.vorofpie.timetracker.report.ReportCache;
+import com.vorofpie.timetracker.service.ReportService;
+import com.vorofpie.timetracker.service.props.ReportProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static com.vorofpie.timetracker.error.ErrorMessages.DATE_RANGE_TOO_LONG_MESSAGE;
+import static com.vorofpie.timetracker.error.ErrorMessages.EMPTY_DATE_RANGE_MESSAGE;
+import static com.vorofpie.timetracker.error.ErrorMessages.SERVICE_OVERLOADED_MESSAGE;
+
+/**
+ * Implementation of the ReportService interface, aggregating tracked time in the database.
+ *
+ * <p>Grouping and summing happen in SQL; only one row per group leaves the database. The grouped columns come from a
+ * fixed mapping of {@link ReportDimension} values, never from request text. Ranges spanning several months are split
+ * at month boundaries, matching the monthly partitions of record_details, and the months are queried in parallel on a
+ * bounded pool. Counts and sums of groups found in several months, such as weeks crossing a month boundary, are merged
+ * in memory; averages are computed only after the merge. Regular users only see records of the projects they are
+ * members of.</p>
+ */
+@Service
+public class ReportServiceImpl implements ReportService {
+
+    private static final String FROM_RECORDS = """
+             from record_details r
+                     join task_details t on t.id = r.task_id
+            where r.start_time >= ? and r.start_time < ?""";
+
+    private static final Comparator<GroupKey> ROW_ORDER = Comparator
+            .comparing(GroupKey::period, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(GroupKey::projectId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(GroupKey::taskId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(GroupKey::userId, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(GroupKey::status, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final JdbcTemplate jdbcTemplate; // Template running the aggregate queries
+    private final CurrentUserProvider currentUserProvider; // Provider of the authenticated user
+    private final ReportCache reportCache; // Computed reports until the data changes
+    private final ReportProperties properties; // Range and concurrency limits
+    private final ThreadPoolExecutor executor; // Bounded pool running the monthly queries
+
+    public ReportServiceImpl(JdbcTemplate jdbcTemplate,
+                             CurrentUserProvider currentUserProvider,
+                             ReportCache reportCache,
+                             ReportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.currentUserProvider = currentUserProvider;
+        this.reportCache = reportCache;
+        this.properties = properties;
+        this.executor = new ThreadPoolExecutor(
+                properties.getConcurrency(), properties.getConcurrency(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                Thread.ofPlatform().name("report-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns record counts, total and average tracked time grouped by the requested properties.
+     *
+     * <p>Records are attributed to the period and range they start in. Reports are cached per filter and user until
+     * records, tasks, projects or memberships change.</p>
+     *
+     * @param filter the range, filters and grouping of the report
+     * @return the report
+     * @throws InvalidDateRangeException  if the range is empty or longer than the configured maximum
+     * @throws ServiceOverloadedException if too many report queries are already waiting
+     */
+    @Override
+    public ReportResponse getReport(ReportFilter filter) {
+        if (!filter.to().isAfter(filter.from())) {
+            throw new InvalidDateRangeException(String.format(EMPTY_DATE_RANGE_MESSAGE, filter.to(), filter.from()));
+        }
+        if (ChronoUnit.DAYS.between(filter.from(), filter.to()) > properties.getMaxRangeDays()) {
+            throw new InvalidDateRangeException(String.format(DATE_RANGE_TOO_LONG_MESSAGE, properties.getMaxRangeDays()));
+        }
+        CurrentUser currentUser = currentUserProvider.get();
+        Long viewerId = currentUser.isAdmin() ? null : currentUser.id();
+        ReportFilter normalized = normalize(filter);
+        return reportCache.get(normalized, viewerId, () -> compute(normalized, viewerId));
+    }
+
+    /**
+     * Brings equivalent filters to one form, so they share a cache entry and a column order.
+     *
+     * @param filter the requested filter
+     * @return the filter with distinct dimensions in declaration order, and a granularity only when grouped by period
+     */
+    private static ReportFilter normalize(ReportFilter filter) {
+        EnumSet<ReportDimension> dimensions = EnumSet.noneOf(ReportDimension.class);
+        if (filter.groupBy() != null) {
+            dimensions.addAll(filter.groupBy());
+        }
+        PeriodGranularity granularity = dimensions.contains(ReportDimension.PERIOD)
+                ? (filter.granularity() == null ? PeriodGranularity.MONTH : filter.granularity())
+                : null;
+        return new ReportFilter(filter.from(), filter.to(), List.copyOf(dimensions), granularity,
+                filter.projectId(), filter.taskId(), filter.userId(), filter.status());
+    }
+
+    /**
+     * Queries each month of the range, in parallel when there are several, and merges the groups.
+     *
+     * @param filter   the normalized filter
+     * @param viewerId the ID of the user the report is restricted to, or null for admins
+     * @return the report
+     */
+    private ReportResponse compute(ReportFilter filter, Long viewerId) {
+        List<LocalDate> bounds = monthBounds(filter.from(), filter.to());
+        Map<GroupKey, long[]> totals = new HashMap<>();
+        if (bounds.size() == 2) {
+            merge(totals, query(filter, viewerId, bounds.get(0), bounds.get(1)));
+        } else {
+            List<Future<List<GroupTotals>>> futures = new ArrayList<>(bounds.size() - 1);
+            try {
+                for (int i = 0; i < bounds.size() - 1; i++) {
+                    LocalDate from = bounds.get(i);
+                    LocalDate to = bounds.get(i + 1);
+                    futures.add(executor.submit(() -> query(filter, viewerId, from, to)));
+                }
+                for (Future<List<GroupTotals>> future : futures) {
+                    merge(totals, future.get());
+                }
+            } catch (RejectedExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                throw new ServiceOverloadedException(SERVICE_OVERLOADED_MESSAGE);
+            } catch (InterruptedException e) {
+                futures.forEach(future -> future.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new ServiceOverloadedException(SERVICE_OVERLOADED_MESSAGE);
+            } catch (ExecutionException e) {
+                futures.forEach(future -> future.cancel(true));
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(e.getCause());
+            }
+        }
+
+        long recordCount = 0;
+        long totalSeconds = 0;
+        List<ReportRow> rows = new ArrayList<>(totals.size());
+        for (Map.Entry<GroupKey, long[]> entry : totals.entrySet().stream().sorted(Map.Entry.comparingByKey(ROW_ORDER)).toList()) {
+            GroupKey key = entry.getKey();
+            long count = entry.getValue()[0];
+            long seconds = entry.getValue()[1];
+            rows.add(new ReportRow(key.period(), key.projectId(), key.taskId(), key.userId(), key.status(),
+                    count, seconds, seconds / count));
+            recordCount += count;
+            totalSeconds += seconds;
+        }
+        return new ReportResponse(recordCount, totalSeconds, recordCount == 0 ? 0 : totalSeconds / recordCount, rows);
+    }
+
+    /**
+     * Aggregates the records starting within one sub-range.
+     *
+     * @param filter   the normalized filter
+     * @param viewerId the ID of the user the report is restricted to, or null for admins
+     * @param from     the first day of the sub-range
+     * @param to       the first day after the sub-range
+     * @return the count and sum of each group
+     */
+    private List<GroupTotals> query(ReportFilter filter, Long viewerId, LocalDate from, LocalDate to) {
+        List<String> columns = filter.groupBy().stream()
+                .map(dimension -> column(dimension, filter.granularity()))
+                .toList();
+
+        StringBuilder sql = new StringBuilder("select ");
+        columns.forEach(column -> sql.append(column).append(", "));
+        sql.append("count(*), sum(floor(extract(epoch from r.end_time - r.start_time)))::bigint").append(FROM_RECORDS);
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(from.atStartOfDay()));
+        args.add(Timestamp.valueOf(to.atStartOfDay()));
+        if (filter.projectId() != null) {
+            sql.append(" and t.project_id = ?");
+            args.add(filter.projectId());
+        }
+        if (filter.taskId() != null) {
+            sql.append(" and r.task_id = ?");
+            args.add(filter.taskId());
+        }
+        if (filter.userId() != null) {
+            sql.append(" and r.user_id = ?");
+            args.add(filter.userId());
+        }
+        if (filter.status() != null) {
+            sql.append(" and t.status = ?");
+            args.add(filter.status().name());
+        }
+        // Regular users only see records of their own projects
+        if (viewerId != null) {
+            sql.append(" and exists (select 1 from project_users pu where pu.project_id = t.project_id and pu.user_id = ?)");
+            args.add(viewerId);
+        }
+        if (!columns.isEmpty()) {
+            sql.append(" group by ");
+            for (int i = 1; i <= columns.size(); i++) {
+                sql.append(i == 1 ? "" : ", ").append(i);
+            }
+        }
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> readGroup(rs, filter.groupBy()), args.toArray());
+    }
+
+    /**
+     * Reads one aggregated row: the grouped columns in dimension order, then the count and the sum.
+     *
+     * @param rs         the result set positioned on a row
+     * @param dimensions the grouped dimensions
+     * @return the group and its totals
+     * @throws SQLException if a column cannot be read
+     */
+    private static GroupTotals readGroup(ResultSet rs, List<ReportDimension> dimensions) throws SQLException {
+        LocalDate period = null;
+        Long projectId = null;
+        Long taskId = null;
+        Long userId = null;
+        TaskStatus status = null;
+        int column = 1;
+        for (ReportDimension dimension : dimensions) {
+            switch (dimension) {
+                case PERIOD -> period = rs.getObject(column, Date.class).toLocalDate();
+                case PROJECT -> projectId = rs.getLong(column);
+                case TASK -> taskId = rs.getLong(column);
+                case USER -> userId = rs.getLong(column);
+                case STATUS -> status = TaskStatus.valueOf(rs.getString(column));
+            }
+            column++;
+        }
+        return new GroupTotals(new GroupKey(period, projectId, taskId, userId, status), rs.getLong(column), rs.getLong(column + 1));
+    }
+
+    private static void merge(Map<GroupKey, long[]> totals, List<GroupTotals> groups) {
+        for (GroupTotals group : groups) {
+            if (group.count() == 0) {
+                continue; // Ungrouped aggregate over no records
+            }
+            long[] sums = totals.computeIfAbsent(group.key(), key -> new long[2]);
+            sums[0] += group.count();
+            sums[1] += group.seconds();
+        }
+    }
+
+    /**
+     * Splits a day range at the first days of months.
+     *
+     * @param from the first day of the range
+     * @param to   the first day after the range
+     * @return the boundaries of the sub-ranges, starting with from and ending with to
+     */
+    private static List<LocalDate> monthBounds(LocalDate from, LocalDate to) {
+        List<LocalDate> bounds = new ArrayList<>();
+        bounds.add(from);
+        LocalDate next = from.withDayOfMonth(1).plusMonths(1);
+        while (next.isBefore(to)) {
+            bounds.add(next);
+            next = next.plusMonths(1);
+        }
+        bounds.add(to);
+        return bounds;
+    }
+
+    private static String column(ReportDimension dimension, PeriodGranularity granularity) {
+        return switch (dimension) {
+            case PERIOD -> "date_trunc('" + truncationUnit(granularity) + "', r.start_time)::date";
+            case PROJECT -> "t.project_id";
+            case TASK -> "r.task_id";
+            case USER -> "r.user_id";
+            case STATUS -> "t.status";
+        };
+    }
+
+    private static String truncationUnit(PeriodGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> "day";
+            case WEEK -> "week";
+            case MONTH -> "month";
+        };
+    }
+
+    private record GroupKey(LocalDate period, Long projectId, Long taskId, Long userId, TaskStatus status) {
+    }
+
+    private record GroupTotals(GroupKey key, long count, long seconds) {
+    }
+}
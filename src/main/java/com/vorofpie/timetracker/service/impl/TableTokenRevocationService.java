@@ -0,0 +1,101 @@
+package com.vorofpie.timetracker.service.impl;
+
+import com.vorofpie.timetracker.domain.User;
+import com.vorofpie.timetracker.service.JwtService;
+import com.vorofpie.timetracker.service.TokenRevocationService;
+import com.vorofpie.timetracker.token.ParsedToken;
+import com.vorofpie.timetracker.token.TokenDigests;
+import com.vorofpie.timetracker.token.TokenRepository;
+import com.vorofpie.timetracker.token.TokenWriteBehindQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Token revocation backed by the tokens table.
+ * <p>
+ * Every issued access token is stored as a row keyed by the SHA-256 digest of the token,
+ * and a token is accepted only while its row is neither expired nor revoked.
+ * Writes go through the {@link TokenWriteBehindQueue}, which batches them off the request thread
+ * and keeps not yet written changes visible to {@link #isTokenActive}.
+ * This is the default mode, selected with {@code application.security.revocation.mode=table}.
+ */
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "application.security.revocation", name = "mode", havingValue = "table", matchIfMissing = true)
+public class TableTokenRevocationService implements TokenRevocationService {
+
+    private final TokenRepository tokenRepository;
+    private final TokenWriteBehindQueue tokenWriteBehindQueue;
+    private final JwtService jwtService;
+
+    /**
+     * Saves a user's token to the repository.
+     * Marks the token as not expired and not revoked and records its expiration for the purge job.
+     *
+     * @param user the user entity to associate the token with
+     * @param accessToken the access token to save
+     */
+    @Override
+    public void saveUserToken(User user, String accessToken) {
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(
+                jwtService.parseToken(accessToken).expiration().toInstant(), ZoneId.systemDefault());
+        tokenWriteBehindQueue.insert(TokenDigests.sha256(accessToken), user.getId(), expiresAt);
+    }
+
+    /**
+     * Revokes all valid tokens for a user.
+     * Marks the tokens as expired and revoked.
+     *
+     * @param user the user entity whose tokens to revoke
+     */
+    @Override
+    public void revokeAllUserTokens(User user) {
+        tokenWriteBehindQueue.revokeAll(user.getId());
+    }
+
+    /**
+     * Revokes a single token by marking its stored row as expired and revoked.
+     *
+     * @param token the JWT token to revoke
+     * @return always true, as the revocation takes effect immediately
+     */
+    @Override
+    public boolean revokeToken(String token) {
+        tokenWriteBehindQueue.revoke(TokenDigests.sha256(token));
+        return true;
+    }
+
+    /**
+     * Checks that the token is stored and is neither expired nor revoked,
+     * taking writes that have not reached the database yet into account.
+     *
+     * @param token the JWT token
+     * @param parsedToken the parsed JWT token
+     * @param user the user the token belongs to
+     * @return true if the token is active; false otherwise
+     */
+    @Override
+    public boolean isTokenActive(String token, ParsedToken parsedToken, User user) {
+        byte[] tokenHash = TokenDigests.sha256(token);
+        return tokenWriteBehindQueue.pendingState(TokenDigests.hex(tokenHash), user.getId())
+                .orElseGet(() -> tokenRepository.findByTokenHash(tokenHash)
+                        .map(t -> !t.isExpired() && !t.isRevoked())
+                        .orElse(false));
+    }
+
+    /**
+     * Refresh tokens are not stored, so they stay usable until they expire.
+     *
+     * @param parsedToken the parsed refresh token
+     * @param user the user the token belongs to
+     * @return always true
+     */
+    @Override
+    public boolean isRefreshTokenActive(ParsedToken parsedToken, User user) {
+        return true;
+    }
+}
@@ -1,28 +1,35 @@
 package com.vorofpie.timetracker.service.impl;
 
 import com.vorofpie.timetracker.aspect.annotation.ProjectMemberAccess;
-import com.vorofpie.timetracker.config.SecurityUser;
+import com.vorofpie.timetracker.cache.ProjectMembershipIndex;
+import com.vorofpie.timetracker.config.CurrentUser;
+import com.vorofpie.timetracker.config.CurrentUserProvider;
 import com.vorofpie.timetracker.domain.Project;
 import com.vorofpie.timetracker.domain.TaskDetail;
 import com.vorofpie.timetracker.domain.TaskStatus;
 import com.vorofpie.timetracker.dto.request.TaskDetailRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
 import com.vorofpie.timetracker.dto.response.TaskDetailResponse;
+import com.vorofpie.timetracker.dto.response.TaskDetailSummaryResponse;
 import com.vorofpie.timetracker.error.exception.InvalidStatusTransitionException;
 import com.vorofpie.timetracker.error.exception.ResourceNotFoundException;
+import com.vorofpie.timetracker.mapper.FieldSelection;
 import com.vorofpie.timetracker.mapper.TaskDetailMapper;
+import com.vorofpie.timetracker.report.ReportCache;
 import com.vorofpie.timetracker.repository.ProjectRepository;
+import com.vorofpie.timetracker.repository.TaskDetailRepository.TaskDetailSummary;
 import com.vorofpie.timetracker.repository.TaskDetailRepository;
+import com.vorofpie.timetracker.rollup.RecordRollupUpdater;
 import com.vorofpie.timetracker.service.TaskDetailService;
+import com.vorofpie.timetracker.service.props.PaginationProperties;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
-import static com.vorofpie.timetracker.domain.RoleName.ADMIN;
 import static com.vorofpie.timetracker.error.ErrorMessages.*;
+import static com.vorofpie.timetracker.service.props.PaginationProperties.fetchLimit;
 
 /**
  * Service implementation for managing task details.
@@ -39,32 +46,65 @@ public class TaskDetailServiceImpl implements TaskDetailService {
     private final TaskDetailRepository taskDetailRepository;
     private final TaskDetailMapper taskDetailMapper;
     private final ProjectRepository projectRepository;
+    private final ProjectMembershipIndex projectMembershipIndex;
+    private final CurrentUserProvider currentUserProvider;
+    private final PaginationProperties paginationProperties;
+    private final RecordRollupUpdater recordRollupUpdater;
+    private final ReportCache reportCache;
 
     /**
      * Retrieves all task details.
      * <p>
      * If the user is an admin, all task details are returned.
      * Otherwise, only task details associated with the user's projects are returned.
+     * Task details are returned in pages ordered by ID, starting after the given cursor.
      *
-     * @return a list of task detail responses
+     * @param cursor    the ID of the last task detail of the previous page, or null for the first page
+     * @param limit     the requested page size, or null for the default size
+     * @param selection the requested properties and nested collections of each task detail
+     * @return a page of task detail responses
      */
     @Override
-    public List<TaskDetailResponse> getAllTaskDetails() {
-        SecurityUser securityUser = (SecurityUser) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        boolean isAdmin = securityUser.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .anyMatch(authority -> authority.equals("ROLE_" + ADMIN.name()));
+    public CursorPageResponse<TaskDetailResponse> getAllTaskDetails(Long cursor, Integer limit, FieldSelection selection) {
+        CurrentUser currentUser = currentUserProvider.get();
+        boolean isAdmin = currentUser.isAdmin();
+        int size = paginationProperties.resolveSize(limit);
+        long after = cursor == null ? 0L : cursor;
 
         List<TaskDetail> taskDetails;
         if (isAdmin) {
-            taskDetails = taskDetailRepository.findAll();
+            taskDetails = taskDetailRepository.findByIdGreaterThanOrderByIdAsc(after, fetchLimit(size));
+        } else if (projectMembershipIndex.isReady()) {
+            List<Long> projectIds = projectMembershipIndex.projectIdsOf(currentUser.id());
+            taskDetails = projectIds.isEmpty()
+                    ? List.of()
+                    : taskDetailRepository.findByProject_IdInAndIdGreaterThanOrderByIdAsc(projectIds, after, fetchLimit(size));
         } else {
-            taskDetails = taskDetailRepository.findByProject_Users_Id(securityUser.user().getId());
+            taskDetails = taskDetailRepository.findByProject_Users_IdAndIdGreaterThanOrderByIdAsc(currentUser.id(), after, fetchLimit(size));
         }
 
-        return taskDetails.stream()
-                .map(taskDetailMapper::toTaskDetailResponse)
-                .collect(Collectors.toList());
+        return CursorPageResponse.of(taskDetails, size, TaskDetail::getId, taskDetail -> taskDetailMapper.toTaskDetailResponse(taskDetail, selection));
+    }
+
+    /**
+     * Retrieves a page of task detail summaries. Admins get all tasks; other users only tasks of projects they are members of.
+     *
+     * <p>Summaries are flat: counts and tracked time are computed by the database, so the cost of a page does not
+     * grow with the history behind each item.</p>
+     *
+     * @param cursor the ID of the last task detail of the previous page, or null for the first page
+     * @param limit  the requested page size, or null for the default size
+     * @return a page of task detail summaries
+     */
+    @Override
+    public CursorPageResponse<TaskDetailSummaryResponse> getTaskDetailSummaries(Long cursor, Integer limit) {
+        CurrentUser currentUser = currentUserProvider.get();
+        int size = paginationProperties.resolveSize(limit);
+        long after = cursor == null ? 0L : cursor;
+        Long memberId = currentUser.isAdmin() ? null : currentUser.id();
+
+        List<TaskDetailSummary> summaries = taskDetailRepository.findSummaries(after, memberId, size + 1);
+        return CursorPageResponse.of(summaries, size, TaskDetailSummary::getId, taskDetailMapper::toTaskDetailSummaryResponse);
     }
 
     /**
@@ -72,15 +112,16 @@ public class TaskDetailServiceImpl implements TaskDetailService {
      * <p>
      * This method is annotated with {@link ProjectMemberAccess} to ensure that only authorized project members can access the task detail.
      *
-     * @param id the ID of the task detail to retrieve
+     * @param id        the ID of the task detail to retrieve
+     * @param selection the requested properties and nested collections of the task detail
      * @return the task detail response
      * @throws ResourceNotFoundException if the task detail is not found
      */
     @ProjectMemberAccess
     @Override
-    public TaskDetailResponse getTaskDetailById(Long id) {
+    public TaskDetailResponse getTaskDetailById(Long id, FieldSelection selection) {
         TaskDetail taskDetail = findTaskDetailByIdOrThrow(id);
-        return taskDetailMapper.toTaskDetailResponse(taskDetail);
+        return taskDetailMapper.toTaskDetailResponse(taskDetail, selection);
     }
 
     /**
@@ -114,10 +155,12 @@ public class TaskDetailServiceImpl implements TaskDetailService {
      * @throws InvalidStatusTransitionException if the status transition is invalid
      */
     @ProjectMemberAccess
+    @Transactional
     @Override
     public TaskDetailResponse updateTaskDetail(Long id, TaskDetailRequest taskDetailRequest) {
         TaskDetail existingTaskDetail = findTaskDetailByIdOrThrow(id);
         Project project = findProjectByIdOrThrow(taskDetailRequest.projectId());
+        Long previousProjectId = existingTaskDetail.getProject().getId();
 
         // Validate status transition rules
         validateStatusTransition(existingTaskDetail.getStatus(), taskDetailRequest.status());
@@ -125,6 +168,13 @@ public class TaskDetailServiceImpl implements TaskDetailService {
         taskDetailMapper.updateTaskDetailFromRequest(taskDetailRequest, existingTaskDetail);
         existingTaskDetail.setProject(project);
         existingTaskDetail = taskDetailRepository.save(existingTaskDetail);
+
+        // Time tracked on a moved task now counts towards its new project
+        if (!previousProjectId.equals(project.getId())) {
+            recordRollupUpdater.moveTask(id, previousProjectId, project.getId());
+        }
+        // Reports group by the task's project and status
+        reportCache.invalidate();
         return taskDetailMapper.toTaskDetailResponse(existingTaskDetail);
     }
 
@@ -136,9 +186,14 @@ public class TaskDetailServiceImpl implements TaskDetailService {
      * @param id the ID of the task detail to delete
      */
     @ProjectMemberAccess
+    @Transactional
     @Override
     public void deleteTaskDetail(Long id) {
+        // The task's records go with it, so their time leaves the rollups
+        taskDetailRepository.findProjectIdById(id)
+                .ifPresent(projectId -> recordRollupUpdater.removeTask(id, projectId));
         taskDetailRepository.deleteById(id);
+        reportCache.invalidate();
     }
 
     /**
@@ -0,0 +1,93 @@
+package com.vorofpie.timetracker.service.impl;
+
+import com.vorofpie.timetracker.config.CurrentUser;
+import com.vorofpie.timetracker.config.CurrentUserProvider;
+import com.vorofpie.timetracker.dto.request.PeriodGranularity;
+import com.vorofpie.timetracker.dto.request.TimesheetFilter;
+import com.vorofpie.timetracker.dto.response.TimesheetEntry;
+import com.vorofpie.timetracker.error.exception.InvalidDateRangeException;
+import com.vorofpie.timetracker.service.TimesheetService;
+import com.vorofpie.timetracker.service.props.RecordRollupProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.vorofpie.timetracker.error.ErrorMessages.DATE_RANGE_TOO_LONG_MESSAGE;
+import static com.vorofpie.timetracker.error.ErrorMessages.EMPTY_DATE_RANGE_MESSAGE;
+
+/**
+ * Implementation of the TimesheetService interface, serving tracked time totals from the daily rollups.
+ *
+ * <p>Totals are summed from record_daily_rollups, which holds at most one row per user, project and day, so the cost of
+ * a timesheet depends on the number of days it covers and not on the number of records. Regular users only see time
+ * of the projects they are members of.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class TimesheetServiceImpl implements TimesheetService {
+
+    private final JdbcTemplate jdbcTemplate; // Template reading the rollups
+    private final CurrentUserProvider currentUserProvider; // Provider of the authenticated user
+    private final RecordRollupProperties properties; // Limits of timesheet requests
+
+    /**
+     * Returns tracked time per period, user and project within the requested days.
+     *
+     * @param filter the day range, grouping and optional user and project filters
+     * @return the non-zero totals ordered by period, user and project
+     * @throws InvalidDateRangeException if the range is empty or longer than the configured maximum
+     */
+    @Override
+    public List<TimesheetEntry> getTimesheet(TimesheetFilter filter) {
+        if (!filter.to().isAfter(filter.from())) {
+            throw new InvalidDateRangeException(String.format(EMPTY_DATE_RANGE_MESSAGE, filter.to(), filter.from()));
+        }
+        if (ChronoUnit.DAYS.between(filter.from(), filter.to()) > properties.getMaxRangeDays()) {
+            throw new InvalidDateRangeException(String.format(DATE_RANGE_TOO_LONG_MESSAGE, properties.getMaxRangeDays()));
+        }
+        CurrentUser currentUser = currentUserProvider.get();
+
+        // The truncation unit comes from the enum, never from the request text
+        StringBuilder sql = new StringBuilder("select date_trunc('")
+                .append(truncationUnit(filter.granularity()))
+                .append("', ro.day::timestamp)::date, ro.user_id, ro.project_id, sum(ro.tracked_seconds)")
+                .append(" from record_daily_rollups ro where ro.day >= ? and ro.day < ?");
+        List<Object> args = new ArrayList<>();
+        args.add(Date.valueOf(filter.from()));
+        args.add(Date.valueOf(filter.to()));
+        if (filter.userId() != null) {
+            sql.append(" and ro.user_id = ?");
+            args.add(filter.userId());
+        }
+        if (filter.projectId() != null) {
+            sql.append(" and ro.project_id = ?");
+            args.add(filter.projectId());
+        }
+        // Regular users only see time of their own projects
+        if (!currentUser.isAdmin()) {
+            sql.append(" and exists (select 1 from project_users pu where pu.project_id = ro.project_id and pu.user_id = ?)");
+            args.add(currentUser.id());
+        }
+        sql.append(" group by 1, 2, 3 having sum(ro.tracked_seconds) <> 0 order by 1, 2, 3");
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new TimesheetEntry(
+                rs.getDate(1).toLocalDate(),
+                rs.getLong(2),
+                rs.getLong(3),
+                rs.getLong(4)
+        ), args.toArray());
+    }
+
+    private static String truncationUnit(PeriodGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> "day";
+            case WEEK -> "week";
+            case MONTH -> "month";
+        };
+    }
+}
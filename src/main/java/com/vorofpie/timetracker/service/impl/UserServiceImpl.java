@@ -1,20 +1,26 @@
 package com.vorofpie.timetracker.service.impl;
 
 import com.vorofpie.timetracker.aspect.annotation.EmailMatchOrAdminAccess;
+import com.vorofpie.timetracker.cache.ProjectMembershipCache;
+import com.vorofpie.timetracker.cache.ProjectMembershipIndex;
 import com.vorofpie.timetracker.domain.User;
 import com.vorofpie.timetracker.dto.request.UserRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
 import com.vorofpie.timetracker.dto.response.UserResponse;
 import com.vorofpie.timetracker.error.exception.ResourceNotFoundException;
 import com.vorofpie.timetracker.mapper.UserMapper;
+import com.vorofpie.timetracker.report.ReportCache;
 import com.vorofpie.timetracker.repository.UserRepository;
 import com.vorofpie.timetracker.service.UserService;
+import com.vorofpie.timetracker.service.props.PaginationProperties;
+import com.vorofpie.timetracker.token.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static com.vorofpie.timetracker.error.ErrorMessages.USER_NOT_FOUND_MESSAGE;
+import static com.vorofpie.timetracker.service.props.PaginationProperties.fetchLimit;
 
 /**
  * Service implementation for managing user details.
@@ -30,20 +36,27 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final ProjectMembershipIndex projectMembershipIndex;
+    private final PaginationProperties paginationProperties;
+    private final ReportCache reportCache;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     /**
      * Retrieves a list of all users.
      * <p>
      * This method does not require any special access control as it is typically intended for administrative purposes
-     * and is accessible by any authorized user.
+     * and is accessible by any authorized user. Users are returned in pages ordered by ID, starting after the given cursor.
      *
-     * @return a list of user responses
+     * @param cursor the ID of the last user of the previous page, or null for the first page
+     * @param limit  the requested page size, or null for the default size
+     * @return a page of user responses
      */
     @Override
-    public List<UserResponse> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(userMapper::toUserResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<UserResponse> getAllUsers(Long cursor, Integer limit) {
+        int size = paginationProperties.resolveSize(limit);
+        List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(cursor == null ? 0L : cursor, fetchLimit(size));
+        return CursorPageResponse.of(users, size, User::getId, userMapper::toUserResponse);
     }
 
     /**
@@ -80,6 +93,8 @@ public class UserServiceImpl implements UserService {
         User existingUser = findUserByIdOrThrow(id);
         userMapper.updateUserFromRequest(userRequest, existingUser);
         existingUser = userRepository.save(existingUser);
+        // Cached verifications hold the previous email and password, which tokens must not outlive
+        verifiedTokenCache.evictUser(id);
         return userMapper.toUserResponse(existingUser);
     }
 
@@ -95,6 +110,10 @@ public class UserServiceImpl implements UserService {
     @Override
     public void deleteUser(Long id) {
         userRepository.deleteById(id);
+        projectMembershipCache.evictUser(id);
+        projectMembershipIndex.removeUser(id);
+        verifiedTokenCache.evictUser(id);
+        reportCache.invalidate();
     }
 
     /**
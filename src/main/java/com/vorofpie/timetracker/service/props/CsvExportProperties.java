@@ -0,0 +1,51 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties of background CSV exports.
+ * <p>
+ * Bound from properties with the "application.export.csv" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.export.csv")
+public class CsvExportProperties {
+
+    /**
+     * Directory export files are written to.
+     */
+    private Path directory = Path.of(System.getProperty("java.io.tmpdir"), "timetracker-exports");
+
+    /**
+     * Size of the direct buffer in front of the file channel, in bytes.
+     */
+    private int bufferSize = 256 * 1024;
+
+    /**
+     * Maximum number of distinct repeated strings kept encoded in the dictionary.
+     */
+    private int dictionarySize = 10_000;
+
+    /**
+     * Number of exports running at the same time.
+     */
+    private int concurrency = 1;
+
+    /**
+     * Maximum number of exports waiting to run. Further requests are rejected with 503.
+     */
+    private int queueCapacity = 4;
+
+    /**
+     * Time finished exports and their files are kept.
+     */
+    private Duration retention = Duration.ofHours(24);
+}
@@ -0,0 +1,66 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the login rate limiter.
+ * <p>
+ * Bound from properties with the "application.security.login-rate-limit" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.security.login-rate-limit")
+public class LoginRateLimitProperties {
+
+    /**
+     * Whether login attempts are rate limited.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Limit applied per account email.
+     */
+    private Limit email = new Limit(5, Duration.ofMinutes(1));
+
+    /**
+     * Limit applied per client IP address.
+     */
+    private Limit ip = new Limit(20, Duration.ofMinutes(1));
+
+    /**
+     * Time after which an unused bucket is dropped.
+     */
+    private Duration idleTimeout = Duration.ofMinutes(10);
+
+    /**
+     * Maximum number of tracked buckets per key type.
+     */
+    private long maxKeys = 100_000;
+
+    /**
+     * Token bucket settings: the bucket holds up to {@code capacity} attempts and is refilled completely
+     * over {@code refillPeriod}.
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int capacity;
+
+        private Duration refillPeriod;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, Duration refillPeriod) {
+            this.capacity = capacity;
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
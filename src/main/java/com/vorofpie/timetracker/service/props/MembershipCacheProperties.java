@@ -0,0 +1,30 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the project membership decision cache.
+ * <p>
+ * Bound from properties with the "application.security.membership-cache" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.security.membership-cache")
+public class MembershipCacheProperties {
+
+    /**
+     * Maximum time a membership decision stays cached.
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+
+    /**
+     * Maximum number of cached (user, project) decisions.
+     */
+    private long maxSize = 50_000;
+}
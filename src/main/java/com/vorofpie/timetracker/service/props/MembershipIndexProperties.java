@@ -0,0 +1,30 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the in-memory project membership index.
+ * <p>
+ * Bound from properties with the "application.security.membership-index" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.security.membership-index")
+public class MembershipIndexProperties {
+
+    /**
+     * Whether membership checks and per-user listings are served from the index.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Interval of full reloads from the project_users table, picking up changes made by other instances.
+     */
+    private Duration reloadInterval = Duration.ofMinutes(10);
+}
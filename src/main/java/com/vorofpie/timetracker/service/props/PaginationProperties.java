@@ -0,0 +1,52 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties of cursor-paginated listings.
+ * <p>
+ * Bound from properties with the "application.pagination" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.pagination")
+public class PaginationProperties {
+
+    /**
+     * Page size used when the request does not specify one.
+     */
+    private int defaultSize = 50;
+
+    /**
+     * Largest page size a request may ask for.
+     */
+    private int maxSize = 500;
+
+    /**
+     * Resolves the page size of a request, applying the default and clamping it to [1, maxSize].
+     *
+     * @param requested the requested page size, may be null
+     * @return the page size
+     */
+    public int resolveSize(Integer requested) {
+        if (requested == null) {
+            return defaultSize;
+        }
+        return Math.max(1, Math.min(requested, maxSize));
+    }
+
+    /**
+     * Returns the query limit for a page: one row more than the page size, which tells whether a next page exists.
+     *
+     * @param size the page size
+     * @return the query limit
+     */
+    public static Limit fetchLimit(int size) {
+        return Limit.of(size + 1);
+    }
+}
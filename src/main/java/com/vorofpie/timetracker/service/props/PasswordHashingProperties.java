@@ -0,0 +1,33 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties of password hashing.
+ * <p>
+ * Bound from properties with the "application.security.password" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.security.password")
+public class PasswordHashingProperties {
+
+    /**
+     * BCrypt work factor used for new hashes. Stored hashes with a lower work factor are upgraded on successful login.
+     */
+    private int strength = 10;
+
+    /**
+     * Number of threads hashing passwords. Defaults to half of the available processors.
+     */
+    private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Maximum number of hashing requests waiting for a free thread. Further requests are rejected with 503.
+     */
+    private int queueCapacity = 64;
+}
@@ -0,0 +1,23 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties of bulk record ingestion.
+ * <p>
+ * Bound from properties with the "application.records.batch" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.records.batch")
+public class RecordBatchProperties {
+
+    /**
+     * Number of rows sent to the database in one JDBC batch.
+     */
+    private int jdbcBatchSize = 1000;
+}
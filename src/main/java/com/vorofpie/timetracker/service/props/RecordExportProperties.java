@@ -0,0 +1,28 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties of record exports.
+ * <p>
+ * Bound from properties with the "application.export" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.export")
+public class RecordExportProperties {
+
+    /**
+     * Number of rows fetched from the database cursor per round trip.
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * Number of rows written between two flushes of the response stream.
+     */
+    private int flushEvery = 1000;
+}
@@ -0,0 +1,42 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the monthly record_details partitions.
+ * <p>
+ * Bound from properties with the "application.records.partitions" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.records.partitions")
+public class RecordPartitionProperties {
+
+    /**
+     * Whether the partition maintenance job runs.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Number of months after the current one that must already have a partition.
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * Number of past months kept attached. Older partitions are detached and left as standalone tables for
+     * archiving. Zero or negative keeps all partitions attached.
+     */
+    private int retentionMonths = 0;
+
+    /**
+     * Maximum time a partition operation waits for its table locks. Scheduled operations give up until the next run,
+     * partitions created for a record write fail the write.
+     */
+    private Duration lockTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,35 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the daily record rollups and the timesheets served from them.
+ * <p>
+ * Bound from properties with the "application.records.rollups" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.records.rollups")
+public class RecordRollupProperties {
+
+    /**
+     * Whether the periodic rebuild of the rollups runs. Only needed when records are changed outside the application.
+     */
+    private boolean rebuildEnabled = false;
+
+    /**
+     * Maximum time the rebuild of a month waits for the rollup table lock before giving up until the next run.
+     */
+    private Duration rebuildLockTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of days a single timesheet request may cover.
+     */
+    private int maxRangeDays = 366;
+}
@@ -0,0 +1,46 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of aggregated reports.
+ * <p>
+ * Bound from properties with the "application.reports" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.reports")
+public class ReportProperties {
+
+    /**
+     * Number of monthly report queries running at the same time, across all requests.
+     * Each one holds a database connection while it runs.
+     */
+    private int concurrency = 4;
+
+    /**
+     * Maximum number of monthly report queries waiting to run. Reports that do not fit are rejected with 503.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Maximum number of days a single report may cover.
+     */
+    private int maxRangeDays = 366;
+
+    /**
+     * Maximum time a report stays cached when the data does not change.
+     */
+    private Duration cacheTtl = Duration.ofMinutes(10);
+
+    /**
+     * Maximum number of cached reports.
+     */
+    private long cacheMaxSize = 1_000;
+}
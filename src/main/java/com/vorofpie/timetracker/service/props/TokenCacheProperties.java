@@ -0,0 +1,36 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the in-process cache of verified JWT tokens.
+ * <p>
+ * Bound from properties with the "application.security.token-cache" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.security.token-cache")
+public class TokenCacheProperties {
+
+    /**
+     * Maximum time a verified token stays cached. Entries never outlive the token's own expiration.
+     */
+    private Duration ttl = Duration.ofSeconds(60);
+
+    /**
+     * Maximum number of cached tokens.
+     */
+    private long maxSize = 10_000;
+
+    /**
+     * Age below which rejected tokens are not cached. It should cover the token write-behind flush interval and the
+     * time a flush takes, so another instance can persist a token it has just issued.
+     */
+    private Duration rejectionGrace = Duration.ofSeconds(2);
+}
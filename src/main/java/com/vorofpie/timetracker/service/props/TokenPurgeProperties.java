@@ -0,0 +1,40 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the background purge of dead rows from the tokens table.
+ * <p>
+ * Bound from properties with the "application.security.token-purge" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.security.token-purge")
+public class TokenPurgeProperties {
+
+    /**
+     * Whether the purge job runs.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of rows deleted by one statement.
+     */
+    private int batchSize = 1000;
+
+    /**
+     * Pause between two batches, so the job never holds locks for long or saturates the database.
+     */
+    private Duration pause = Duration.ofMillis(200);
+
+    /**
+     * Maximum number of batches per run.
+     */
+    private int maxBatchesPerRun = 100;
+}
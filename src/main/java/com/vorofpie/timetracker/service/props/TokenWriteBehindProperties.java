@@ -0,0 +1,56 @@
+package com.vorofpie.timetracker.service.props;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties of the write-behind pipeline persisting tokens in the tokens table.
+ * <p>
+ * Bound from properties with the "application.security.token-write-behind" prefix.
+ */
+@Component
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "application.security.token-write-behind")
+public class TokenWriteBehindProperties {
+
+    /**
+     * Whether token writes are batched on a background thread. When disabled, every write is executed on the caller thread.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of pending writes. Callers wait for free space when the queue is full.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of writes executed in one batch.
+     */
+    private int maxBatchSize = 500;
+
+    /**
+     * How long the background thread waits for new writes when the queue is empty.
+     */
+    private Duration flushInterval = Duration.ofMillis(50);
+
+    /**
+     * How long a caller waits for free space in a full queue before writing synchronously.
+     */
+    private Duration offerTimeout = Duration.ofMillis(100);
+
+    /**
+     * How long the background thread waits before retrying after a failed flush.
+     */
+    private Duration retryBackoff = Duration.ofSeconds(1);
+
+    /**
+     * Number of failed attempts after which a single token insert is dropped. Inserts violating a constraint are dropped
+     * at once. Revocations are retried until they are written.
+     */
+    private int maxAttempts = 30;
+}
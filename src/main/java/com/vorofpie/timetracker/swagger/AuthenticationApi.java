@@ -33,9 +33,10 @@ public interface AuthenticationApi {
             @ApiResponse(responseCode = "200", description = "User logged in successfully", content = @Content(schema = @Schema(implementation = AuthenticationResponse.class))),
             @ApiResponse(responseCode = "400", description = "Invalid input", content = @Content(schema = @Schema(implementation = AppError.class))),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(schema = @Schema(implementation = AppError.class))),
+            @ApiResponse(responseCode = "429", description = "Too many login attempts", content = @Content(schema = @Schema(implementation = AppError.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = AppError.class)))
     })
-    AuthenticationResponse authenticate(@RequestBody AuthenticationRequest request);
+    AuthenticationResponse authenticate(@RequestBody AuthenticationRequest request, HttpServletRequest httpRequest);
 
     @Operation(summary = "Refresh Token")
     @ApiResponses(value = {
@@ -0,0 +1,48 @@
+package com.vorofpie.timetracker.swagger;
+
+import com.vorofpie.timetracker.dto.error.AppError;
+import com.vorofpie.timetracker.dto.response.ExportJobResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Tag(name = "Export API", description = "Background bulk export API")
+public interface ExportApi {
+
+    @Operation(summary = "Start a CSV export of record details", description = "Submit a background job writing record details joined with user, project and task names to a CSV file. Only administrators can export.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Export job submitted", content = @Content(schema = @Schema(implementation = ExportJobResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Too many exports are waiting", content = @Content(schema = @Schema(implementation = AppError.class)))
+    })
+    ExportJobResponse startRecordExport(
+            @Parameter(description = "Export only records of this user") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Export only records of this project") @RequestParam(required = false) Long projectId,
+            @Parameter(description = "Export only records starting at or after this time, ISO date-time") @RequestParam(required = false) LocalDateTime from,
+            @Parameter(description = "Export only records starting before this time, ISO date-time") @RequestParam(required = false) LocalDateTime to
+    );
+
+    @Operation(summary = "Retrieve an export job by ID", description = "Get the state, progress and throughput of an export job.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export job retrieved successfully", content = @Content(schema = @Schema(implementation = ExportJobResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Export job not found", content = @Content(schema = @Schema(implementation = AppError.class)))
+    })
+    ExportJobResponse getExportJob(@PathVariable UUID id);
+
+    @Operation(summary = "Download the file of an export job", description = "Download the CSV file of a completed export job.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Export file downloaded successfully", content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "404", description = "Export job not found or not completed", content = @Content(schema = @Schema(implementation = AppError.class)))
+    })
+    ResponseEntity<Resource> getExportFile(@PathVariable UUID id);
+}
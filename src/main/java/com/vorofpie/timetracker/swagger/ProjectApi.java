@@ -2,9 +2,12 @@ package com.vorofpie.timetracker.swagger;
 
 import com.vorofpie.timetracker.dto.error.AppError;
 import com.vorofpie.timetracker.dto.request.CreateProjectRequest;
+import com.vorofpie.timetracker.dto.request.ListView;
 import com.vorofpie.timetracker.dto.request.UpdateProjectRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
 import com.vorofpie.timetracker.dto.response.ProjectResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,8 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
-
-import java.util.List;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "Project API", description = "Project management API")
 public interface ProjectApi {
@@ -49,11 +51,21 @@ public interface ProjectApi {
             @ApiResponse(responseCode = "404", description = "Project not found", content = @Content(schema = @Schema(implementation = AppError.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = AppError.class)))
     })
-    ProjectResponse getProjectById(@PathVariable Long id);
+    ProjectResponse getProjectById(
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated properties to return, dotted for nested items, e.g. id,name,taskDetails.name; omit for all") @RequestParam(required = false) String fields,
+            @Parameter(description = "Comma-separated nested collections to return, dotted for deeper levels, e.g. taskDetails.recordDetails; omit for all") @RequestParam(required = false) String expand
+    );
 
     @Operation(summary = "Retrieve all projects", description = "Get a list of all projects. ADMIN gets all projects, users only get the projects they are members of")
-    @ApiResponse(responseCode = "200", description = "Projects retrieved successfully", content = @Content(schema = @Schema(implementation = ProjectResponse.class)))
-    List<ProjectResponse> getAllProjects();
+    @ApiResponse(responseCode = "200", description = "Projects retrieved successfully", content = @Content(schema = @Schema(implementation = CursorPageResponse.class)))
+    CursorPageResponse<?> getAllProjects(
+            @Parameter(description = "ID of the last project of the previous page, omit for the first page") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "Page size, capped by the configured maximum") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "summary for flat items with counts and tracked time, full for complete projects with nested collections") @RequestParam(defaultValue = "full") ListView view,
+            @Parameter(description = "Comma-separated properties to return, dotted for nested items, e.g. id,name,taskDetails.name; omit for all") @RequestParam(required = false) String fields,
+            @Parameter(description = "Comma-separated nested collections to return, dotted for deeper levels, e.g. taskDetails.recordDetails; omit for all") @RequestParam(required = false) String expand
+    );
 
     @Operation(summary = "Add user to project", description = "Add a user to a project by project ID and user ID. Ony ADMIN can access this endpoint")
     @ApiResponses(value = {
@@ -1,9 +1,16 @@
 package com.vorofpie.timetracker.swagger;
 
 import com.vorofpie.timetracker.dto.error.AppError;
+import com.vorofpie.timetracker.dto.request.ListView;
+import com.vorofpie.timetracker.dto.request.PeriodGranularity;
+import com.vorofpie.timetracker.dto.request.RecordBatchRequest;
 import com.vorofpie.timetracker.dto.request.RecordDetailRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
+import com.vorofpie.timetracker.dto.response.RecordBatchResponse;
 import com.vorofpie.timetracker.dto.response.RecordDetailResponse;
+import com.vorofpie.timetracker.dto.response.TimesheetEntry;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,7 +18,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name = "Record Detail API", description = "Record detail management API")
@@ -25,6 +37,14 @@ public interface RecordDetailApi {
     })
     RecordDetailResponse createRecordDetail(@RequestBody RecordDetailRequest recordDetailRequest);
 
+    @Operation(summary = "Create record details in bulk", description = "Create up to 10000 record details in one request. Each record is validated on its own; invalid records, records of unknown tasks or users, and records in projects the user is not a member of are skipped and reported with their position. An administrator can create entries for any project.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed, see the per-record errors", content = @Content(schema = @Schema(implementation = RecordBatchResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Batch is empty or too large", content = @Content(schema = @Schema(implementation = AppError.class))),
+            @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = AppError.class)))
+    })
+    RecordBatchResponse createRecordDetails(@RequestBody RecordBatchRequest recordBatchRequest);
+
     @Operation(summary = "Update an existing record detail by ID", description = "Update a record detail by its ID. A regular user can only update a record in a project he/she is a member of. An administrator can update an entry for any project.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Record detail updated successfully", content = @Content(schema = @Schema(implementation = RecordDetailResponse.class))),
@@ -51,6 +71,44 @@ public interface RecordDetailApi {
     RecordDetailResponse getRecordDetailById(@PathVariable Long id);
 
     @Operation(summary = "Retrieve all record details", description = "Get a list of all record details. Regular user gets all records from project he/she participates in.")
-    @ApiResponse(responseCode = "200", description = "Record details retrieved successfully", content = @Content(schema = @Schema(implementation = RecordDetailResponse.class)))
-    List<RecordDetailResponse> getAllRecordDetails();
+    @ApiResponse(responseCode = "200", description = "Record details retrieved successfully", content = @Content(schema = @Schema(implementation = CursorPageResponse.class)))
+    CursorPageResponse<?> getAllRecordDetails(
+            @Parameter(description = "ID of the last record detail of the previous page, omit for the first page") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "Page size, capped by the configured maximum") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "summary for flat items with counts and tracked time, full for complete record details with nested collections") @RequestParam(defaultValue = "full") ListView view
+    );
+
+    @Operation(summary = "Search record details", description = "Find record details by user, task, project and start time range. All filters are optional and combined. Regular user finds only records from projects he/she participates in.")
+    @ApiResponse(responseCode = "200", description = "Record details found successfully", content = @Content(schema = @Schema(implementation = CursorPageResponse.class)))
+    CursorPageResponse<RecordDetailResponse> searchRecordDetails(
+            @Parameter(description = "Find only records of this user") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Find only records of this task") @RequestParam(required = false) Long taskId,
+            @Parameter(description = "Find only records of this project") @RequestParam(required = false) Long projectId,
+            @Parameter(description = "Find only records starting at or after this time, ISO date-time") @RequestParam(required = false) LocalDateTime from,
+            @Parameter(description = "Find only records starting before this time, ISO date-time") @RequestParam(required = false) LocalDateTime to,
+            @Parameter(description = "ID of the last record detail of the previous page, omit for the first page") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "Page size, capped by the configured maximum") @RequestParam(required = false) Integer limit
+    );
+
+    @Operation(summary = "Get a timesheet", description = "Get tracked time per day, week or month, user and project from the precomputed daily totals. Records crossing midnight count on each day they cover. Regular user sees only time from projects he/she participates in.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Timesheet retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Date range is empty or too long", content = @Content(schema = @Schema(implementation = AppError.class)))
+    })
+    List<TimesheetEntry> getTimesheet(
+            @Parameter(description = "Include only time of this user") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Include only time of this project") @RequestParam(required = false) Long projectId,
+            @Parameter(description = "First day included, ISO date") @RequestParam LocalDate from,
+            @Parameter(description = "First day not included, ISO date") @RequestParam LocalDate to,
+            @Parameter(description = "Length of the periods totals are grouped by: day, week or month") @RequestParam(defaultValue = "week") PeriodGranularity granularity
+    );
+
+    @Operation(summary = "Export record details", description = "Stream record details as newline-delimited JSON, one record per line. Regular user exports only records from projects he/she participates in.")
+    @ApiResponse(responseCode = "200", description = "Record details streamed successfully", content = @Content(mediaType = "application/x-ndjson"))
+    ResponseEntity<StreamingResponseBody> exportRecordDetails(
+            @Parameter(description = "Export only records of this user") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Export only records of this project") @RequestParam(required = false) Long projectId,
+            @Parameter(description = "Export only records starting at or after this time, ISO date-time") @RequestParam(required = false) LocalDateTime from,
+            @Parameter(description = "Export only records starting before this time, ISO date-time") @RequestParam(required = false) LocalDateTime to
+    );
 }
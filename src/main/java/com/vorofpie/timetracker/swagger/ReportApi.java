@@ -0,0 +1,39 @@
+package com.vorofpie.timetracker.swagger;
+
+import com.vorofpie.timetracker.domain.TaskStatus;
+import com.vorofpie.timetracker.dto.error.AppError;
+import com.vorofpie.timetracker.dto.request.PeriodGranularity;
+import com.vorofpie.timetracker.dto.request.ReportDimension;
+import com.vorofpie.timetracker.dto.response.ReportResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "Report API", description = "Aggregated tracked time API")
+public interface ReportApi {
+
+    @Operation(summary = "Get a report of tracked time", description = "Get the number of records, total and average tracked time grouped by any combination of period, project, task, user and task status. Records count towards the period they start in. Regular user sees only records from projects he/she participates in.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Report computed successfully", content = @Content(schema = @Schema(implementation = ReportResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Date range is empty or too long", content = @Content(schema = @Schema(implementation = AppError.class))),
+            @ApiResponse(responseCode = "503", description = "Too many reports are being computed", content = @Content(schema = @Schema(implementation = AppError.class)))
+    })
+    ReportResponse getReport(
+            @Parameter(description = "First day included, ISO date") @RequestParam LocalDate from,
+            @Parameter(description = "First day not included, ISO date") @RequestParam LocalDate to,
+            @Parameter(description = "Comma-separated properties to group by: period, project, task, user, status. Omit for overall totals") @RequestParam(required = false) List<ReportDimension> groupBy,
+            @Parameter(description = "Length of the periods when grouped by period: day, week or month") @RequestParam(defaultValue = "month") PeriodGranularity granularity,
+            @Parameter(description = "Include only records of this project") @RequestParam(required = false) Long projectId,
+            @Parameter(description = "Include only records of this task") @RequestParam(required = false) Long taskId,
+            @Parameter(description = "Include only records of this user") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Include only records of tasks with this status") @RequestParam(required = false) TaskStatus status
+    );
+}
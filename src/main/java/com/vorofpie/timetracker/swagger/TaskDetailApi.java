@@ -1,9 +1,12 @@
 package com.vorofpie.timetracker.swagger;
 
 import com.vorofpie.timetracker.dto.error.AppError;
+import com.vorofpie.timetracker.dto.request.ListView;
 import com.vorofpie.timetracker.dto.request.TaskDetailRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
 import com.vorofpie.timetracker.dto.response.TaskDetailResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,8 +14,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
-
-import java.util.List;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "Task Detail API", description = "Task detail management API")
 public interface TaskDetailApi {
@@ -48,9 +50,19 @@ public interface TaskDetailApi {
             @ApiResponse(responseCode = "404", description = "Task detail not found", content = @Content(schema = @Schema(implementation = AppError.class))),
             @ApiResponse(responseCode = "500", description = "Internal server error", content = @Content(schema = @Schema(implementation = AppError.class)))
     })
-    TaskDetailResponse getTaskDetailById(@PathVariable Long id);
+    TaskDetailResponse getTaskDetailById(
+            @PathVariable Long id,
+            @Parameter(description = "Comma-separated properties to return, dotted for nested items, e.g. id,name,recordDetails.startTime; omit for all") @RequestParam(required = false) String fields,
+            @Parameter(description = "Comma-separated nested collections to return, dotted for deeper levels, e.g. recordDetails; omit for all") @RequestParam(required = false) String expand
+    );
 
     @Operation(summary = "Retrieve all task details", description = "Get a list of all task details. Regular user gets all tasks from project he/she participates in.")
-    @ApiResponse(responseCode = "200", description = "Task details retrieved successfully", content = @Content(schema = @Schema(implementation = TaskDetailResponse.class)))
-    List<TaskDetailResponse> getAllTaskDetails();
+    @ApiResponse(responseCode = "200", description = "Task details retrieved successfully", content = @Content(schema = @Schema(implementation = CursorPageResponse.class)))
+    CursorPageResponse<?> getAllTaskDetails(
+            @Parameter(description = "ID of the last task detail of the previous page, omit for the first page") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "Page size, capped by the configured maximum") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "summary for flat items with counts and tracked time, full for complete task details with nested collections") @RequestParam(defaultValue = "full") ListView view,
+            @Parameter(description = "Comma-separated properties to return, dotted for nested items, e.g. id,name,recordDetails.startTime; omit for all") @RequestParam(required = false) String fields,
+            @Parameter(description = "Comma-separated nested collections to return, dotted for deeper levels, e.g. recordDetails; omit for all") @RequestParam(required = false) String expand
+    );
 }
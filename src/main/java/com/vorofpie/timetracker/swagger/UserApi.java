@@ -2,8 +2,10 @@ package com.vorofpie.timetracker.swagger;
 
 import com.vorofpie.timetracker.dto.error.AppError;
 import com.vorofpie.timetracker.dto.request.UserRequest;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
 import com.vorofpie.timetracker.dto.response.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,8 +13,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
-
-import java.util.List;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "User API", description = "User management API")
 public interface UserApi {
@@ -43,6 +44,9 @@ public interface UserApi {
     UserResponse getUserById(@PathVariable Long id);
 
     @Operation(summary = "Retrieve all users", description = "Get a list of all users. Only an administrator can retrieve all users.")
-    @ApiResponse(responseCode = "200", description = "Users retrieved successfully", content = @Content(schema = @Schema(implementation = UserResponse.class)))
-    List<UserResponse> getAllUsers();
+    @ApiResponse(responseCode = "200", description = "Users retrieved successfully", content = @Content(schema = @Schema(implementation = CursorPageResponse.class)))
+    CursorPageResponse<UserResponse> getAllUsers(
+            @Parameter(description = "ID of the last user of the previous page, omit for the first page") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "Page size, capped by the configured maximum") @RequestParam(required = false) Integer limit
+    );
 }
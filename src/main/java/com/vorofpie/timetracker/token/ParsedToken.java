@@ -0,0 +1,49 @@
+package com.vorofpie.timetracker.token;
+
+import com.vorofpie.timetracker.service.JwtService;
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * Result of a single verified parse of a JWT.
+ * Carries the subject, the expiration date and the full claim set, so callers
+ * never have to parse and verify the same token more than once.
+ *
+ * @param subject    the token subject (user email)
+ * @param expiration the expiration date of the token
+ * @param claims     all claims contained in the token, including custom ones
+ */
+public record ParsedToken(String subject, Date expiration, Claims claims) {
+
+    /**
+     * Checks if the token has expired.
+     *
+     * @return true if the expiration date is before the current date; false otherwise
+     */
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+
+    /**
+     * Reads a custom claim from the token.
+     *
+     * @param name         the claim name
+     * @param requiredType the expected claim type
+     * @param <T>          the type of the claim
+     * @return the claim value, or null if the claim is absent
+     */
+    public <T> T claim(String name, Class<T> requiredType) {
+        return claims.get(name, requiredType);
+    }
+
+    /**
+     * Checks the type of the token.
+     *
+     * @param type the expected token type
+     * @return true if the token carries the given type; false for other types and untyped tokens
+     */
+    public boolean hasType(String type) {
+        return type.equals(claims.get(JwtService.TYPE_CLAIM, String.class));
+    }
+}
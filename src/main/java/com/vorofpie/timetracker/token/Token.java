@@ -4,6 +4,8 @@ import com.vorofpie.timetracker.domain.User;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,13 +19,17 @@ public class Token {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     public Integer id;
 
-    @Column(unique = true)
-    public String token;
+    // SHA-256 digest of the JWT
+    @Column(name = "token_hash", unique = true, nullable = false, length = 32)
+    public byte[] tokenHash;
 
     public boolean revoked;
 
     public boolean expired;
 
+    @Column(name = "expires_at")
+    public LocalDateTime expiresAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     public User user;
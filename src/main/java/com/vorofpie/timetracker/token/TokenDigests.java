@@ -0,0 +1,52 @@
+package com.vorofpie.timetracker.token;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Utility for computing fixed-length digests of JWT tokens.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TokenDigests {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    /**
+     * Computes the SHA-256 digest of the token.
+     *
+     * @param token the JWT token
+     * @return the 32-byte digest
+     */
+    public static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance(ALGORITHM).digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not supported by the JVM", e);
+        }
+    }
+
+    /**
+     * Computes the SHA-256 digest of the token as a lowercase hex string.
+     *
+     * @param token the JWT token
+     * @return the 64-character hex digest
+     */
+    public static String sha256Hex(String token) {
+        return hex(sha256(token));
+    }
+
+    /**
+     * Formats a digest as a lowercase hex string.
+     *
+     * @param digest the digest bytes
+     * @return the hex digest
+     */
+    public static String hex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+}
@@ -0,0 +1,99 @@
+package com.vorofpie.timetracker.token;
+
+import com.vorofpie.timetracker.service.props.JwtProperties;
+import com.vorofpie.timetracker.service.props.TokenPurgeProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scheduled job deleting dead rows from the tokens table.
+ * <p>
+ * A row is dead once its token expired longer ago than the refresh token lifetime, or when it is a revoked row
+ * without a recorded expiration. Rows are deleted in bounded batches with a pause in between, so the job never
+ * holds long locks. Progress and the table size are published as metrics. The size is the planner estimate kept by
+ * autovacuum, which costs a catalog lookup instead of a scan of the table.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "application.security.token-purge", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class TokenPurgeJob {
+
+    // Negative until the table is first vacuumed or analyzed
+    private static final String ESTIMATED_ROWS_SQL = "select greatest(reltuples, 0)::bigint from pg_class where oid = 'tokens'::regclass";
+
+    private final TokenRepository tokenRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JwtProperties jwtProperties;
+    private final TokenPurgeProperties purgeProperties;
+    private final Counter deletedRows;
+    private final Counter batches;
+    private final AtomicLong tableRows = new AtomicLong();
+
+    public TokenPurgeJob(TokenRepository tokenRepository,
+                         JdbcTemplate jdbcTemplate,
+                         JwtProperties jwtProperties,
+                         TokenPurgeProperties purgeProperties,
+                         MeterRegistry meterRegistry) {
+        this.tokenRepository = tokenRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.jwtProperties = jwtProperties;
+        this.purgeProperties = purgeProperties;
+        this.deletedRows = Counter.builder("tokens.purge.deleted")
+                .description("Rows deleted from the tokens table by the purge job")
+                .register(meterRegistry);
+        this.batches = Counter.builder("tokens.purge.batches")
+                .description("Delete batches executed by the purge job")
+                .register(meterRegistry);
+        Gauge.builder("tokens.table.rows", tableRows, AtomicLong::get)
+                .description("Estimated number of rows in the tokens table after the last purge run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Deletes dead tokens in bounded batches until none are left or the per-run batch limit is reached.
+     */
+    @Scheduled(
+            initialDelayString = "${application.security.token-purge.interval:PT1H}",
+            fixedDelayString = "${application.security.token-purge.interval:PT1H}"
+    )
+    public void purge() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(jwtProperties.getRefresh() * 1_000_000L);
+        long deletedInRun = 0;
+        for (int batch = 0; batch < purgeProperties.getMaxBatchesPerRun(); batch++) {
+            int deleted = tokenRepository.deleteDeadTokens(cutoff, purgeProperties.getBatchSize());
+            batches.increment();
+            deletedRows.increment(deleted);
+            deletedInRun += deleted;
+            if (deleted < purgeProperties.getBatchSize() || !pause()) {
+                break;
+            }
+        }
+        Long estimatedRows = jdbcTemplate.queryForObject(ESTIMATED_ROWS_SQL, Long.class);
+        tableRows.set(estimatedRows == null ? 0 : estimatedRows);
+        log.info("Purged {} dead tokens older than {}, about {} tokens left", deletedInRun, cutoff, tableRows.get());
+    }
+
+    /**
+     * Sleeps between two batches.
+     *
+     * @return false if the thread was interrupted and the run should stop
+     */
+    private boolean pause() {
+        try {
+            Thread.sleep(purgeProperties.getPause());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
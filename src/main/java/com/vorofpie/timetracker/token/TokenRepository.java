@@ -1,8 +1,11 @@
 package com.vorofpie.timetracker.token;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,5 +18,15 @@ public interface TokenRepository extends JpaRepository<Token, Integer> {
       """)
     List<Token> findAllValidTokenByUser(Long id);
 
-    Optional<Token> findByToken(String token);
+    Optional<Token> findByTokenHash(byte[] tokenHash);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+      delete from tokens where id in (\s
+        select id from tokens\s
+        where expires_at < :cutoff or (expires_at is null and revoked = true and expired = true)\s
+        limit :batchSize for update skip locked)\s
+      """, nativeQuery = true)
+    int deleteDeadTokens(LocalDateTime cutoff, int batchSize);
 }
@@ -0,0 +1,411 @@
+package com.vorofpie.timetracker.token;
+
+import com.vorofpie.timetracker.service.props.TokenWriteBehindProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind pipeline for the tokens table.
+ * <p>
+ * Token inserts and revocations are queued and written by a dedicated thread in batched JDBC statements, so login
+ * and refresh requests no longer wait for the tokens table. Writes that are still pending are tracked in memory and
+ * taken into account by {@link #pendingState(String, Long)}, so a freshly issued token is accepted and a revocation
+ * takes effect immediately. Callers wait for free space when the queue is full and fall back to a synchronous flush
+ * after a timeout. All pending writes are flushed on shutdown.
+ * <p>
+ * Pending writes are visible only to this instance. Other instances reject a freshly issued token until its insert is
+ * flushed, which takes about one flush interval; {@link VerifiedTokenCache} does not keep such early rejections.
+ * <p>
+ * When a batch fails, its writes are retried one by one, so a single bad insert cannot hold back the others. Inserts
+ * violating a constraint, such as the insert of a token whose user was deleted before the flush, can never succeed and
+ * are dropped. Inserts failing for other reasons are retried with a backoff and dropped after the configured number of
+ * attempts; a dropped insert only leaves a token that the database does not accept. Revocations are never dropped:
+ * they are retried until they are written and keep rejecting the revoked tokens meanwhile, since dropping one would
+ * make a revoked token valid again.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "application.security.revocation", name = "mode", havingValue = "table", matchIfMissing = true)
+public class TokenWriteBehindQueue {
+
+    private static final String INSERT_TOKEN_SQL =
+            "INSERT INTO tokens (token_hash, revoked, expired, user_id, expires_at) VALUES (?, false, false, ?, ?)";
+    private static final String REVOKE_USER_TOKENS_SQL =
+            "UPDATE tokens SET revoked = true, expired = true WHERE user_id = ? AND (revoked = false OR expired = false)";
+    private static final String REVOKE_TOKEN_SQL =
+            "UPDATE tokens SET revoked = true, expired = true WHERE token_hash = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TokenWriteBehindProperties properties;
+    private final BlockingQueue<TokenWrite> queue;
+    // Guards flushing, so writes always reach the database in the order they were queued
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // Writes taken from the queue whose flush failed, retried before anything else
+    private final List<TokenWrite> inFlight = new ArrayList<>();
+    // Failed attempts of the first in-flight write
+    private int headAttempts;
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Tokens inserted but not yet written, by digest
+    private final ConcurrentHashMap<String, InsertToken> pendingTokens = new ConcurrentHashMap<>();
+    // Sequence number of the latest unwritten revocation of all tokens, by user ID
+    private final ConcurrentHashMap<Long, Long> pendingUserRevocations = new ConcurrentHashMap<>();
+    // Revoked tokens not yet written, by digest
+    private final ConcurrentHashMap<String, RevokeToken> pendingTokenRevocations = new ConcurrentHashMap<>();
+
+    private final DistributionSummary batchSizes;
+    private final Counter synchronousFlushes;
+    private final Counter droppedWrites;
+    private volatile boolean running;
+    private Thread writer;
+
+    public TokenWriteBehindQueue(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 TokenWriteBehindProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSizes = DistributionSummary.builder("tokens.write.batch.size")
+                .description("Number of token writes flushed in one batch")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.synchronousFlushes = Counter.builder("tokens.write.sync.flushes")
+                .description("Flushes executed on a caller thread because the queue was full or disabled")
+                .register(meterRegistry);
+        this.droppedWrites = Counter.builder("tokens.write.dropped")
+                .description("Token inserts dropped after a constraint violation or too many failed attempts")
+                .register(meterRegistry);
+        Gauge.builder("tokens.write.queue.size", queue, BlockingQueue::size)
+                .description("Number of token writes waiting to be flushed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts the background writer thread if write-behind is enabled.
+     */
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        running = true;
+        writer = Thread.ofPlatform().name("token-write-behind").daemon().start(this::runWriter);
+    }
+
+    /**
+     * Stops the background writer thread and flushes all pending writes.
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.interrupt();
+            writer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        flushLock.lock();
+        try {
+            while (drainAndFlush() > 0) {
+                // Keep flushing until the queue is empty
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Queues the insert of a newly issued token.
+     *
+     * @param tokenHash the SHA-256 digest of the token
+     * @param userId    the ID of the user the token belongs to
+     * @param expiresAt the token expiration
+     */
+    public void insert(byte[] tokenHash, Long userId, LocalDateTime expiresAt) {
+        InsertToken write = new InsertToken(tokenHash, TokenDigests.hex(tokenHash), userId, expiresAt, sequence.incrementAndGet());
+        pendingTokens.put(write.hex(), write);
+        submit(write);
+    }
+
+    /**
+     * Queues the revocation of all tokens of the user.
+     *
+     * @param userId the ID of the user
+     */
+    public void revokeAll(Long userId) {
+        RevokeUserTokens write = new RevokeUserTokens(userId, sequence.incrementAndGet());
+        pendingUserRevocations.merge(userId, write.sequence(), Math::max);
+        submit(write);
+    }
+
+    /**
+     * Queues the revocation of a single token.
+     *
+     * @param tokenHash the SHA-256 digest of the token
+     */
+    public void revoke(byte[] tokenHash) {
+        RevokeToken write = new RevokeToken(tokenHash, TokenDigests.hex(tokenHash), sequence.incrementAndGet());
+        pendingTokenRevocations.put(write.hex(), write);
+        submit(write);
+    }
+
+    /**
+     * Decides whether a token is active from the writes that have not reached the database yet.
+     *
+     * @param tokenHex the hex SHA-256 digest of the token
+     * @param userId   the ID of the user the token belongs to
+     * @return the token state if pending writes determine it; empty if the database has to be consulted
+     */
+    public Optional<Boolean> pendingState(String tokenHex, Long userId) {
+        if (pendingTokenRevocations.containsKey(tokenHex)) {
+            return Optional.of(false);
+        }
+        Long revokedAt = pendingUserRevocations.get(userId);
+        InsertToken pendingToken = pendingTokens.get(tokenHex);
+        if (pendingToken != null) {
+            return Optional.of(revokedAt == null || revokedAt < pendingToken.sequence());
+        }
+        if (revokedAt != null) {
+            // Every token already in the database was issued before the pending revocation
+            return Optional.of(false);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Adds a write to the queue, waiting for free space and flushing synchronously if the queue stays full.
+     * A failure of the synchronous flush is rethrown to the caller, while the write stays in flight behind the writes
+     * queued before it and is retried with them.
+     *
+     * @param write the write to queue
+     */
+    private void submit(TokenWrite write) {
+        if (running) {
+            try {
+                if (queue.offer(write, properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // The queue is full or write-behind is disabled: flush everything queued so far, then this write
+        synchronousFlushes.increment();
+        flushLock.lock();
+        try {
+            try {
+                while (drainAndFlush() > 0) {
+                    // Flush earlier writes first to preserve their order
+                }
+            } catch (RuntimeException e) {
+                // Keep the write behind the earlier ones, its pending state is already visible
+                queue.drainTo(inFlight);
+                inFlight.add(write);
+                throw e;
+            }
+            inFlight.add(write);
+            flushInFlight();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Background loop flushing queued writes in batches.
+     */
+    private void runWriter() {
+        while (running) {
+            int flushed = 0;
+            flushLock.lock();
+            try {
+                flushed = drainAndFlush();
+            } catch (RuntimeException e) {
+                log.error("Failed to flush token writes, retrying: {}", e.getMessage());
+                flushed = -1;
+            } finally {
+                flushLock.unlock();
+            }
+            if (flushed < 0 && !sleep(properties.getRetryBackoff())) {
+                return;
+            }
+            if (flushed >= 0 && flushed < properties.getMaxBatchSize() && !sleep(properties.getFlushInterval())) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Takes the next batch of writes from the queue and flushes it. Must be called with the flush lock held.
+     *
+     * @return the number of flushed writes
+     */
+    private int drainAndFlush() {
+        if (inFlight.isEmpty()) {
+            queue.drainTo(inFlight, properties.getMaxBatchSize());
+        }
+        return flushInFlight();
+    }
+
+    /**
+     * Writes the in-flight batch in one transaction, grouping consecutive writes of the same kind into JDBC batches.
+     * Must be called with the flush lock held. If the transaction fails, the writes are retried one by one.
+     *
+     * @return the number of flushed writes
+     */
+    private int flushInFlight() {
+        if (inFlight.isEmpty()) {
+            return 0;
+        }
+        List<TokenWrite> batch = List.copyOf(inFlight);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                int start = 0;
+                for (int i = 1; i <= batch.size(); i++) {
+                    if (i == batch.size() || batch.get(i).getClass() != batch.get(start).getClass()) {
+                        executeGroup(batch.subList(start, i));
+                        start = i;
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} token writes in one batch, retrying them one by one: {}", batch.size(), e.getMessage());
+            return flushOneByOne();
+        }
+        inFlight.clear();
+        headAttempts = 0;
+        batch.forEach(this::clearPending);
+        batchSizes.record(batch.size());
+        return batch.size();
+    }
+
+    /**
+     * Writes the in-flight writes in order, each in its own transaction. Must be called with the flush lock held.
+     * An insert violating a constraint is dropped. Any other failure stops the flush, so the later writes stay behind the
+     * failed one, and is rethrown; a failed insert is dropped once it has failed the configured number of times, a failed
+     * revocation stays in flight until it is written.
+     *
+     * @return the number of flushed or dropped writes
+     */
+    private int flushOneByOne() {
+        int processed = 0;
+        while (!inFlight.isEmpty()) {
+            TokenWrite write = inFlight.get(0);
+            try {
+                transactionTemplate.executeWithoutResult(status -> executeGroup(List.of(write)));
+            } catch (DataIntegrityViolationException e) {
+                dropInsert(write, e);
+            } catch (RuntimeException e) {
+                if (++headAttempts < properties.getMaxAttempts()) {
+                    throw e;
+                }
+                dropInsert(write, e);
+            }
+            inFlight.remove(0);
+            headAttempts = 0;
+            clearPending(write);
+            processed++;
+        }
+        return processed;
+    }
+
+    /**
+     * Gives up on an insert that cannot be flushed. Revocations are kept, so the failure is rethrown for them.
+     *
+     * @param write the failed write
+     * @param cause the failure of its last attempt
+     */
+    private void dropInsert(TokenWrite write, RuntimeException cause) {
+        if (!(write instanceof InsertToken)) {
+            log.error("Failed to flush token revocation, keeping it pending: {}", cause.getMessage());
+            throw cause;
+        }
+        droppedWrites.increment();
+        log.error("Dropping token insert that cannot be flushed: {}", cause.getMessage());
+    }
+
+    /**
+     * Executes writes of one kind as a single JDBC batch.
+     *
+     * @param group consecutive writes of the same kind
+     */
+    private void executeGroup(List<TokenWrite> group) {
+        switch (group.get(0)) {
+            case InsertToken ignored -> jdbcTemplate.batchUpdate(INSERT_TOKEN_SQL, group, group.size(), (ps, write) -> {
+                InsertToken insert = (InsertToken) write;
+                ps.setBytes(1, insert.tokenHash());
+                ps.setLong(2, insert.userId());
+                ps.setTimestamp(3, Timestamp.valueOf(insert.expiresAt()));
+            });
+            case RevokeUserTokens ignored -> jdbcTemplate.batchUpdate(REVOKE_USER_TOKENS_SQL, group, group.size(),
+                    (ps, write) -> ps.setLong(1, ((RevokeUserTokens) write).userId()));
+            case RevokeToken ignored -> jdbcTemplate.batchUpdate(REVOKE_TOKEN_SQL, group, group.size(),
+                    (ps, write) -> ps.setBytes(1, ((RevokeToken) write).tokenHash()));
+        }
+    }
+
+    /**
+     * Removes a written operation from the in-memory pending state.
+     *
+     * @param write the written operation
+     */
+    private void clearPending(TokenWrite write) {
+        switch (write) {
+            case InsertToken insert -> pendingTokens.remove(insert.hex(), insert);
+            case RevokeUserTokens revoke -> pendingUserRevocations.remove(revoke.userId(), revoke.sequence());
+            case RevokeToken revoke -> pendingTokenRevocations.remove(revoke.hex(), revoke);
+        }
+    }
+
+    /**
+     * Waits before the next flush.
+     *
+     * @param duration the time to wait
+     * @return false if the writer thread was interrupted and should stop
+     */
+    private boolean sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private sealed interface TokenWrite permits InsertToken, RevokeUserTokens, RevokeToken {
+    }
+
+    private record InsertToken(byte[] tokenHash, String hex, Long userId, LocalDateTime expiresAt, long sequence)
+            implements TokenWrite {
+    }
+
+    private record RevokeUserTokens(Long userId, long sequence) implements TokenWrite {
+    }
+
+    private record RevokeToken(byte[] tokenHash, String hex, long sequence) implements TokenWrite {
+    }
+}
@@ -0,0 +1,119 @@
+package com.vorofpie.timetracker.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.vorofpie.timetracker.config.SecurityUser;
+import com.vorofpie.timetracker.service.props.TokenCacheProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of verified JWT tokens, keyed by the SHA-256 digest of the token.
+ * <p>
+ * Each entry holds the resolved {@link SecurityUser} and the token's validity, so repeated requests with the same
+ * token skip signature verification and database lookups. Entries expire at the token's own expiration or after
+ * the configured TTL, whichever comes first, and are evicted explicitly on logout and token revocation.
+ * <p>
+ * Rejections of tokens issued within the configured grace period are not kept. With several instances and token
+ * write-behind, only the issuing instance knows a fresh token until its insert is flushed; other instances reject it in
+ * the meantime and must not remember that rejection for the whole TTL.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "verifiedTokens";
+
+    private final Cache<String, VerifiedToken> cache;
+    private final Counter explicitEvictions;
+    private final long rejectionGraceMillis;
+
+    public VerifiedTokenCache(TokenCacheProperties properties, MeterRegistry meterRegistry) {
+        this.rejectionGraceMillis = properties.getRejectionGrace().toMillis();
+        long ttlNanos = properties.getTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long untilExpiration = (value.expiresAtMillis() - System.currentTimeMillis()) * 1_000_000L;
+                        return Math.max(0, Math.min(ttlNanos, untilExpiration));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.explicitEvictions = Counter.builder("cache.explicit.evictions")
+                .tag("cache", CACHE_NAME)
+                .description("Entries removed on logout or token revocation")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached verification result for the token, verifying it with the given function on a miss.
+     *
+     * @param token    the JWT token
+     * @param verifier the function performing full verification of the token
+     * @return the verification result
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        String key = TokenDigests.sha256Hex(token);
+        VerifiedToken verifiedToken = cache.get(key, digest -> verifier.apply(token));
+        if (!verifiedToken.valid() && verifiedToken.issuedAtMillis() > System.currentTimeMillis() - rejectionGraceMillis) {
+            // The token may still be waiting to be written by another instance, verify it again next time
+            cache.asMap().remove(key, verifiedToken);
+        }
+        return verifiedToken;
+    }
+
+    /**
+     * Removes the token from the cache.
+     *
+     * @param token the JWT token
+     */
+    public void evict(String token) {
+        if (cache.asMap().remove(TokenDigests.sha256Hex(token)) != null) {
+            explicitEvictions.increment();
+        }
+    }
+
+    /**
+     * Removes all cached tokens of the user.
+     *
+     * @param userId the ID of the user
+     */
+    public void evictUser(Long userId) {
+        cache.asMap().values().removeIf(verifiedToken -> {
+            boolean matches = verifiedToken.user() != null && verifiedToken.user().user().getId().equals(userId);
+            if (matches) {
+                explicitEvictions.increment();
+            }
+            return matches;
+        });
+    }
+
+    /**
+     * Result of verifying a token.
+     *
+     * @param user            the user the token belongs to
+     * @param valid           whether the token passed all checks
+     * @param issuedAtMillis  the token issue time as epoch milliseconds, zero if the token has none
+     * @param expiresAtMillis the token expiration as epoch milliseconds
+     */
+    public record VerifiedToken(SecurityUser user, boolean valid, long issuedAtMillis, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,133 @@
+package com.vorofpie.timetracker.controller;
+
+import com.vorofpie.timetracker.config.WebConfiguration;
+import com.vorofpie.timetracker.domain.TaskStatus;
+import com.vorofpie.timetracker.dto.request.PeriodGranularity;
+import com.vorofpie.timetracker.dto.request.ReportDimension;
+import com.vorofpie.timetracker.dto.request.ReportFilter;
+import com.vorofpie.timetracker.dto.request.TimesheetFilter;
+import com.vorofpie.timetracker.dto.response.CursorPageResponse;
+import com.vorofpie.timetracker.mapper.FieldSelection;
+import com.vorofpie.timetracker.service.ProjectService;
+import com.vorofpie.timetracker.service.RecordDetailService;
+import com.vorofpie.timetracker.service.RecordExportService;
+import com.vorofpie.timetracker.service.ReportService;
+import com.vorofpie.timetracker.service.TaskDetailService;
+import com.vorofpie.timetracker.service.TimesheetService;
+import org.junit.jupiter.api.Test;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.format.support.FormattingConversionService;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class EnumRequestParameterTest {
+
+    private static final CursorPageResponse<Object> EMPTY_PAGE = new CursorPageResponse<>(List.of(), null);
+
+    private final ProjectService projectService = mock(ProjectService.class);
+    private final TaskDetailService taskDetailService = mock(TaskDetailService.class);
+    private final RecordDetailService recordDetailService = mock(RecordDetailService.class);
+    private final ReportService reportService = mock(ReportService.class);
+    private final TimesheetService timesheetService = mock(TimesheetService.class);
+
+    private final MockMvc mockMvc = MockMvcBuilders
+            .standaloneSetup(
+                    new ProjectController(projectService),
+                    new TaskDetailController(taskDetailService),
+                    new RecordDetailController(recordDetailService, mock(RecordExportService.class), timesheetService),
+                    new ReportController(reportService))
+            .setConversionService(conversionService())
+            .build();
+
+    @Test
+    void listingsWithoutParametersReturnFullView() throws Exception {
+        when(projectService.getAllProjects(isNull(), isNull(), any())).thenReturn((CursorPageResponse) EMPTY_PAGE);
+        when(taskDetailService.getAllTaskDetails(isNull(), isNull(), any())).thenReturn((CursorPageResponse) EMPTY_PAGE);
+        when(recordDetailService.getAllRecordDetails(isNull(), isNull())).thenReturn((CursorPageResponse) EMPTY_PAGE);
+
+        mockMvc.perform(get("/api/v1/projects")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tasks")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/records")).andExpect(status().isOk());
+
+        verify(projectService).getAllProjects(null, null, FieldSelection.all());
+        verify(taskDetailService).getAllTaskDetails(null, null, FieldSelection.all());
+        verify(recordDetailService).getAllRecordDetails(null, null);
+    }
+
+    @Test
+    void listingViewIsCaseInsensitive() throws Exception {
+        when(projectService.getProjectSummaries(isNull(), isNull())).thenReturn((CursorPageResponse) EMPTY_PAGE);
+        when(taskDetailService.getTaskDetailSummaries(isNull(), isNull())).thenReturn((CursorPageResponse) EMPTY_PAGE);
+        when(recordDetailService.getRecordDetailSummaries(isNull(), isNull())).thenReturn((CursorPageResponse) EMPTY_PAGE);
+
+        mockMvc.perform(get("/api/v1/projects").param("view", "summary")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/tasks").param("view", "Summary")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/records").param("view", "SUMMARY")).andExpect(status().isOk());
+
+        verify(projectService).getProjectSummaries(null, null);
+        verify(taskDetailService).getTaskDetailSummaries(null, null);
+        verify(recordDetailService).getRecordDetailSummaries(null, null);
+    }
+
+    @Test
+    void unknownListingViewIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/projects").param("view", "compact")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void reportWithoutGranularityUsesMonths() throws Exception {
+        mockMvc.perform(get("/api/v1/reports").param("from", "2024-01-01").param("to", "2024-04-01"))
+                .andExpect(status().isOk());
+
+        verify(reportService).getReport(new ReportFilter(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 4, 1),
+                null, PeriodGranularity.MONTH, null, null, null, null));
+    }
+
+    @Test
+    void reportEnumsAreCaseInsensitive() throws Exception {
+        mockMvc.perform(get("/api/v1/reports")
+                        .param("from", "2024-01-01")
+                        .param("to", "2024-04-01")
+                        .param("groupBy", "period,project")
+                        .param("granularity", "week")
+                        .param("status", "in_progress"))
+                .andExpect(status().isOk());
+
+        verify(reportService).getReport(new ReportFilter(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 4, 1),
+                List.of(ReportDimension.PERIOD, ReportDimension.PROJECT), PeriodGranularity.WEEK,
+                null, null, null, TaskStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void timesheetWithoutGranularityUsesWeeks() throws Exception {
+        mockMvc.perform(get("/api/v1/records/timesheet").param("from", "2024-07-01").param("to", "2024-08-01"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/records/timesheet")
+                        .param("from", "2024-07-01")
+                        .param("to", "2024-08-01")
+                        .param("granularity", "day"))
+                .andExpect(status().isOk());
+
+        LocalDate from = LocalDate.of(2024, 7, 1);
+        LocalDate to = LocalDate.of(2024, 8, 1);
+        verify(timesheetService).getTimesheet(new TimesheetFilter(null, null, from, to, PeriodGranularity.WEEK));
+        verify(timesheetService).getTimesheet(new TimesheetFilter(null, null, from, to, PeriodGranularity.DAY));
+    }
+
+    private static FormattingConversionService conversionService() {
+        FormattingConversionService conversionService = new DefaultFormattingConversionService();
+        new WebConfiguration().addFormatters(conversionService);
+        return conversionService;
+    }
+}
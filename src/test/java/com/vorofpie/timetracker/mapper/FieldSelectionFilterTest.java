@@ -0,0 +1,57 @@
+package com.vorofpie.timetracker.mapper;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vorofpie.timetracker.domain.TaskStatus;
+import com.vorofpie.timetracker.dto.response.ProjectResponse;
+import com.vorofpie.timetracker.dto.response.RecordDetailResponse;
+import com.vorofpie.timetracker.dto.response.TaskDetailResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FieldSelectionFilterTest {
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .filterProvider(FieldSelectionFilter.serializeAllProvider())
+            .build();
+
+    private final ProjectResponse project = new ProjectResponse(1L, "Project", null,
+            List.of(new TaskDetailResponse(2L, "Task", null, TaskStatus.values()[0],
+                    List.of(new RecordDetailResponse(3L, LocalDateTime.of(2024, 1, 1, 9, 0), null, "Record")))),
+            null);
+
+    @Test
+    void fullResponseKeepsNullProperties() throws Exception {
+        JsonNode json = mapper.readTree(mapper.writeValueAsString(project));
+
+        assertThat(json.has("description")).isTrue();
+        assertThat(json.has("users")).isTrue();
+        assertThat(json.at("/taskDetails/0/recordDetails/0").has("endTime")).isTrue();
+    }
+
+    @Test
+    void selectionOmitsOnlyUnselectedProperties() throws Exception {
+        FieldSelection selection = FieldSelection.of("id,description,taskDetails.name,taskDetails.recordDetails.endTime",
+                "taskDetails,taskDetails.recordDetails");
+
+        JsonNode json = mapper.readTree(mapper.writer(FieldSelectionFilter.provider(selection))
+                .writeValueAsString(project));
+
+        assertThat(json.has("name")).isFalse();
+        assertThat(json.has("description")).isTrue();
+        assertThat(json.has("users")).isFalse();
+        JsonNode task = json.at("/taskDetails/0");
+        assertThat(task.has("name")).isTrue();
+        assertThat(task.has("id")).isFalse();
+        JsonNode record = task.at("/recordDetails/0");
+        assertThat(record.has("endTime")).isTrue();
+        assertThat(record.has("startTime")).isFalse();
+    }
+}
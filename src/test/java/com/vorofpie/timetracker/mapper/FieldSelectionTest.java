@@ -0,0 +1,77 @@
+package com.vorofpie.timetracker.mapper;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FieldSelectionTest {
+
+    @Test
+    void absentParametersSelectEverything() {
+        FieldSelection selection = FieldSelection.of(null, null);
+
+        assertThat(selection).isSameAs(FieldSelection.all());
+        assertThat(selection.includes("name")).isTrue();
+        assertThat(selection.expands("taskDetails")).isTrue();
+        assertThat(selection.nested("taskDetails")).isSameAs(FieldSelection.all());
+    }
+
+    @Test
+    void fieldsSelectListedScalarsOnly() {
+        FieldSelection selection = FieldSelection.of("id, name", null);
+
+        assertThat(selection.includes("id")).isTrue();
+        assertThat(selection.includes("name")).isTrue();
+        assertThat(selection.includes("description")).isFalse();
+        assertThat(selection.expands("taskDetails")).isFalse();
+    }
+
+    @Test
+    void nestedFieldPrefixSelectsCollection() {
+        FieldSelection selection = FieldSelection.of("id,taskDetails.name", null);
+
+        assertThat(selection.expands("taskDetails")).isTrue();
+        assertThat(selection.expands("users")).isFalse();
+        assertThat(selection.expands("task")).isFalse();
+    }
+
+    @Test
+    void expandRestrictsCollections() {
+        FieldSelection selection = FieldSelection.of(null, "users");
+
+        assertThat(selection.includes("description")).isTrue();
+        assertThat(selection.expands("users")).isTrue();
+        assertThat(selection.expands("taskDetails")).isFalse();
+    }
+
+    @Test
+    void expandDoesNotOverrideFields() {
+        FieldSelection selection = FieldSelection.of("id", "taskDetails");
+
+        assertThat(selection.expands("taskDetails")).isFalse();
+    }
+
+    @Test
+    void nestedStripsCollectionPrefix() {
+        FieldSelection selection = FieldSelection.of("id,taskDetails.name,taskDetails.recordDetails.startTime",
+                "taskDetails,taskDetails.recordDetails");
+
+        FieldSelection tasks = selection.nested("taskDetails");
+        assertThat(tasks.includes("name")).isTrue();
+        assertThat(tasks.includes("id")).isFalse();
+        assertThat(tasks.expands("recordDetails")).isTrue();
+
+        FieldSelection records = tasks.nested("recordDetails");
+        assertThat(records.includes("startTime")).isTrue();
+        assertThat(records.includes("endTime")).isFalse();
+    }
+
+    @Test
+    void nestedCollectionListedWholeSelectsAllItemFields() {
+        FieldSelection tasks = FieldSelection.of("id,taskDetails", "").nested("taskDetails");
+
+        assertThat(tasks.includes("name")).isTrue();
+        assertThat(tasks.includes("status")).isTrue();
+        assertThat(tasks.expands("recordDetails")).isFalse();
+    }
+}
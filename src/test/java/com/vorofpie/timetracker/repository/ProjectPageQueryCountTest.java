@@ -0,0 +1,122 @@
+package com.vorofpie.timetracker.repository;
+
+import com.vorofpie.timetracker.domain.Project;
+import com.vorofpie.timetracker.domain.RecordDetail;
+import com.vorofpie.timetracker.domain.Role;
+import com.vorofpie.timetracker.domain.RoleName;
+import com.vorofpie.timetracker.domain.TaskDetail;
+import com.vorofpie.timetracker.domain.TaskStatus;
+import com.vorofpie.timetracker.domain.User;
+import com.vorofpie.timetracker.dto.response.ProjectResponse;
+import com.vorofpie.timetracker.mapper.FieldSelection;
+import com.vorofpie.timetracker.mapper.ProjectMapper;
+import com.vorofpie.timetracker.mapper.ProjectMapperImpl;
+import com.vorofpie.timetracker.mapper.RecordDetailMapperImpl;
+import com.vorofpie.timetracker.mapper.TaskDetailMapperImpl;
+import com.vorofpie.timetracker.mapper.UserMapperImpl;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards against N+1 queries when a page of projects is mapped with all nested collections expanded.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({ProjectMapperImpl.class, TaskDetailMapperImpl.class, UserMapperImpl.class, RecordDetailMapperImpl.class})
+class ProjectPageQueryCountTest {
+
+    private static final int PROJECTS = 12;
+    private static final int TASKS_PER_PROJECT = 3;
+    private static final int RECORDS_PER_TASK = 2;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Role role = entityManager.persist(new Role(null, RoleName.USER));
+        for (int p = 0; p < PROJECTS; p++) {
+            User user = entityManager.persist(User.builder()
+                    .username("user" + p)
+                    .password("secret")
+                    .email("user" + p + "@example.com")
+                    .birthDate(LocalDate.of(1990, 1, 1))
+                    .role(role)
+                    .build());
+            Project project = new Project();
+            project.setName("Project " + p);
+            project.getUsers().add(user);
+            entityManager.persist(project);
+            for (int t = 0; t < TASKS_PER_PROJECT; t++) {
+                TaskDetail task = new TaskDetail();
+                task.setProject(project);
+                task.setName("Task " + t);
+                task.setStatus(TaskStatus.OPEN);
+                entityManager.persist(task);
+                for (int r = 0; r < RECORDS_PER_TASK; r++) {
+                    LocalDateTime start = LocalDateTime.of(2024, 3, 1, 9, 0).plusHours(r);
+                    entityManager.persist(RecordDetail.builder()
+                            .user(user)
+                            .task(task)
+                            .startTime(start)
+                            .endTime(start.plusMinutes(30))
+                            .build());
+                }
+            }
+        }
+        entityManager.flush();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+    }
+
+    @Test
+    void pageOfProjectsTakesConstantNumberOfStatements() {
+        long smallPage = statementsToMapPage(2);
+        long fullPage = statementsToMapPage(PROJECTS);
+
+        // The page itself, then one batch each for tasks, members and records
+        assertThat(fullPage).isEqualTo(4);
+        assertThat(smallPage).isEqualTo(fullPage);
+    }
+
+    private long statementsToMapPage(int size) {
+        entityManager.clear();
+        statistics.clear();
+        List<ProjectResponse> page = projectRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(size)).stream()
+                .map(project -> projectMapper.toProjectResponse(project, FieldSelection.all()))
+                .toList();
+
+        assertThat(page).hasSize(size);
+        assertThat(page).allSatisfy(project -> {
+            assertThat(project.users()).hasSize(1);
+            assertThat(project.taskDetails()).hasSize(TASKS_PER_PROJECT)
+                    .allSatisfy(task -> assertThat(task.recordDetails()).hasSize(RECORDS_PER_TASK));
+        });
+        return statistics.getPrepareStatementCount();
+    }
+}
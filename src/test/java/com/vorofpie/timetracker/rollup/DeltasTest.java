@@ -0,0 +1,84 @@
+package com.vorofpie.timetracker.rollup;
+
+import com.vorofpie.timetracker.rollup.RecordRollupUpdater.Deltas;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeltasTest {
+
+    private static final Long USER = 1L;
+    private static final Long PROJECT = 2L;
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+
+    @Test
+    void intervalWithinOneDayCountsOnThatDay() {
+        Deltas deltas = new Deltas().add(USER, PROJECT, DAY.atTime(9, 0), DAY.atTime(10, 30, 15));
+
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY)).isEqualTo(5415);
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY.plusDays(1))).isZero();
+    }
+
+    @Test
+    void intervalCrossingMidnightIsSplit() {
+        Deltas deltas = new Deltas().add(USER, PROJECT, DAY.atTime(23, 0), DAY.plusDays(1).atTime(1, 30));
+
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY)).isEqualTo(3600);
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY.plusDays(1))).isEqualTo(5400);
+    }
+
+    @Test
+    void intervalEndingAtMidnightStaysOnItsDay() {
+        Deltas deltas = new Deltas().add(USER, PROJECT, DAY.atTime(22, 0), DAY.plusDays(1).atStartOfDay());
+
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY)).isEqualTo(7200);
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY.plusDays(1))).isZero();
+    }
+
+    @Test
+    void multiDayIntervalCountsWholeDaysInBetween() {
+        Deltas deltas = new Deltas().add(USER, PROJECT, DAY.atTime(18, 0), DAY.plusDays(3).atTime(6, 0));
+
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY)).isEqualTo(6 * 3600);
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY.plusDays(1))).isEqualTo(24 * 3600);
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY.plusDays(2))).isEqualTo(24 * 3600);
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY.plusDays(3))).isEqualTo(6 * 3600);
+    }
+
+    @Test
+    void updateCancelsOutOnUnchangedDays() {
+        LocalDateTime start = DAY.atTime(20, 0);
+        Deltas deltas = new Deltas()
+                .subtract(USER, PROJECT, start, DAY.plusDays(1).atTime(2, 0))
+                .add(USER, PROJECT, start, DAY.plusDays(1).atTime(3, 0));
+
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY)).isZero();
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY.plusDays(1))).isEqualTo(3600);
+    }
+
+    @Test
+    void movedRecordMovesBetweenProjects() {
+        LocalDateTime start = DAY.atTime(9, 0);
+        LocalDateTime end = DAY.atTime(10, 0);
+        Deltas deltas = new Deltas()
+                .subtract(USER, PROJECT, start, end)
+                .add(USER, 3L, start, end);
+
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY)).isEqualTo(-3600);
+        assertThat(deltas.secondsOf(USER, 3L, DAY)).isEqualTo(3600);
+    }
+
+    @Test
+    void emptyOrNegativeIntervalAddsNothing() {
+        LocalDateTime time = DAY.atTime(12, 0);
+        Deltas deltas = new Deltas()
+                .add(USER, PROJECT, time, time)
+                .add(USER, PROJECT, time, time.minusHours(2));
+
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY)).isZero();
+        assertThat(deltas.secondsOf(USER, PROJECT, DAY.minusDays(1))).isZero();
+    }
+}
@@ -0,0 +1,207 @@
+package com.vorofpie.timetracker.token;
+
+import com.vorofpie.timetracker.service.props.TokenWriteBehindProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TokenWriteBehindQueueTest {
+
+    private static final String INSERT = "INSERT INTO tokens";
+    private static final String REVOKE_ALL = "UPDATE tokens SET revoked = true, expired = true WHERE user_id";
+    private static final String REVOKE_ONE = "UPDATE tokens SET revoked = true, expired = true WHERE token_hash";
+    private static final LocalDateTime EXPIRES_AT = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TokenWriteBehindProperties properties = new TokenWriteBehindProperties();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void queuedInsertIsWrittenBeforeLaterRevocation() throws Exception {
+        properties.setFlushInterval(Duration.ofHours(1));
+        TokenWriteBehindQueue queue = newQueue();
+        queue.start();
+
+        queue.insert(digest("a"), 1L, EXPIRES_AT);
+        queue.revokeAll(1L);
+        queue.stop();
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).batchUpdate(startsWith(INSERT), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        order.verify(jdbcTemplate).batchUpdate(startsWith(REVOKE_ALL), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(queue.pendingState(hex("a"), 1L)).isEmpty();
+    }
+
+    @Test
+    void failedInsertIsRetriedBeforeLaterRevocation() {
+        properties.setEnabled(false);
+        TokenWriteBehindQueue queue = newQueue();
+        failOnce(INSERT);
+
+        assertThatThrownBy(() -> queue.insert(digest("a"), 1L, EXPIRES_AT)).isInstanceOf(TransientDataAccessResourceException.class);
+        queue.revokeAll(1L);
+
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate, times(3)).batchUpdate(startsWith(INSERT), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        order.verify(jdbcTemplate).batchUpdate(startsWith(REVOKE_ALL), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(queue.pendingState(hex("a"), 1L)).isEmpty();
+    }
+
+    @Test
+    void pendingStateFollowsWriteSequence() {
+        properties.setEnabled(false);
+        TokenWriteBehindQueue queue = newQueue();
+        failAlways(INSERT);
+        failAlways(REVOKE_ALL);
+        failAlways(REVOKE_ONE);
+
+        assertThatThrownBy(() -> queue.insert(digest("before"), 1L, EXPIRES_AT));
+        assertThat(queue.pendingState(hex("before"), 1L)).contains(true);
+        assertThat(queue.pendingState(hex("stored"), 1L)).isEmpty();
+
+        assertThatThrownBy(() -> queue.revokeAll(1L));
+        assertThat(queue.pendingState(hex("before"), 1L)).contains(false);
+        assertThat(queue.pendingState(hex("stored"), 1L)).contains(false);
+        assertThat(queue.pendingState(hex("stored"), 2L)).isEmpty();
+
+        assertThatThrownBy(() -> queue.insert(digest("after"), 1L, EXPIRES_AT));
+        assertThat(queue.pendingState(hex("after"), 1L)).contains(true);
+
+        assertThatThrownBy(() -> queue.revoke(digest("after")));
+        assertThat(queue.pendingState(hex("after"), 1L)).contains(false);
+    }
+
+    @Test
+    void pendingStateIsClearedOnceWritten() throws Exception {
+        properties.setEnabled(false);
+        TokenWriteBehindQueue queue = newQueue();
+        failOnce(INSERT);
+
+        assertThatThrownBy(() -> queue.insert(digest("a"), 1L, EXPIRES_AT));
+        assertThat(queue.pendingState(hex("a"), 1L)).contains(true);
+
+        queue.stop();
+        assertThat(queue.pendingState(hex("a"), 1L)).isEmpty();
+    }
+
+    @Test
+    void synchronousFlushRethrowsAndKeepsWriteInFlight() throws Exception {
+        properties.setEnabled(false);
+        TokenWriteBehindQueue queue = newQueue();
+        failOnce(REVOKE_ONE);
+
+        assertThatThrownBy(() -> queue.revoke(digest("a"))).isInstanceOf(TransientDataAccessResourceException.class);
+        assertThat(queue.pendingState(hex("a"), 1L)).contains(false);
+        assertThat(meterRegistry.counter("tokens.write.sync.flushes").count()).isEqualTo(1);
+
+        queue.stop();
+        verify(jdbcTemplate, times(3)).batchUpdate(startsWith(REVOKE_ONE), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(queue.pendingState(hex("a"), 1L)).isEmpty();
+    }
+
+    @Test
+    void insertViolatingConstraintIsDropped() {
+        properties.setEnabled(false);
+        TokenWriteBehindQueue queue = newQueue();
+        doThrow(new DataIntegrityViolationException("user deleted")).when(jdbcTemplate)
+                .batchUpdate(startsWith(INSERT), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        queue.insert(digest("a"), 1L, EXPIRES_AT);
+
+        assertThat(queue.pendingState(hex("a"), 1L)).isEmpty();
+        assertThat(meterRegistry.counter("tokens.write.dropped").count()).isEqualTo(1);
+    }
+
+    @Test
+    void insertIsDroppedAfterMaxAttempts() {
+        properties.setEnabled(false);
+        properties.setMaxAttempts(3);
+        TokenWriteBehindQueue queue = newQueue();
+        failAlways(INSERT);
+
+        assertThatThrownBy(() -> queue.insert(digest("a"), 1L, EXPIRES_AT));
+        assertThatThrownBy(() -> queue.revokeAll(2L));
+        queue.revokeAll(2L);
+
+        assertThat(queue.pendingState(hex("a"), 1L)).isEmpty();
+        assertThat(queue.pendingState(hex("b"), 2L)).isEmpty();
+        assertThat(meterRegistry.counter("tokens.write.dropped").count()).isEqualTo(1);
+        // The revocation that failed behind the insert is kept and written before the next one
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith(REVOKE_ALL), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    void revocationIsNeverDropped() {
+        properties.setEnabled(false);
+        properties.setMaxAttempts(2);
+        TokenWriteBehindQueue queue = newQueue();
+        doThrow(new DataIntegrityViolationException("constraint"))
+                .doThrow(new TransientDataAccessResourceException("down"))
+                .doThrow(new DataIntegrityViolationException("constraint"))
+                .doThrow(new TransientDataAccessResourceException("down"))
+                .doThrow(new TransientDataAccessResourceException("down"))
+                .doThrow(new TransientDataAccessResourceException("down"))
+                .doReturn(new int[0][])
+                .when(jdbcTemplate)
+                .batchUpdate(startsWith(REVOKE_ALL), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            assertThatThrownBy(() -> queue.revokeAll(1L));
+            assertThat(queue.pendingState(hex("stored"), 1L)).contains(false);
+        }
+        assertThat(meterRegistry.counter("tokens.write.dropped").count()).isZero();
+
+        queue.insert(digest("new"), 1L, EXPIRES_AT);
+        assertThat(queue.pendingState(hex("stored"), 1L)).isEmpty();
+    }
+
+    private TokenWriteBehindQueue newQueue() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        return new TokenWriteBehindQueue(jdbcTemplate, transactionTemplate, properties, meterRegistry);
+    }
+
+    /**
+     * Fails the batch attempt and the first one-by-one attempt of the next flush of a statement, then succeeds.
+     */
+    private void failOnce(String statement) {
+        doThrow(new TransientDataAccessResourceException("down"))
+                .doThrow(new TransientDataAccessResourceException("down"))
+                .doReturn(new int[0][])
+                .when(jdbcTemplate)
+                .batchUpdate(startsWith(statement), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private void failAlways(String statement) {
+        doThrow(new TransientDataAccessResourceException("down")).when(jdbcTemplate)
+                .batchUpdate(startsWith(statement), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private static byte[] digest(String token) {
+        return TokenDigests.sha256(token);
+    }
+
+    private static String hex(String token) {
+        return TokenDigests.sha256Hex(token);
+    }
+}